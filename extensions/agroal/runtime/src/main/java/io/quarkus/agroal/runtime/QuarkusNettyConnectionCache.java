@@ -1,16 +1,41 @@
 package io.quarkus.agroal.runtime;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import org.jboss.threads.JBossThread;
 
 import io.agroal.api.cache.Acquirable;
 import io.agroal.api.cache.ConnectionCache;
 import io.netty.util.concurrent.FastThreadLocal;
 import io.netty.util.concurrent.FastThreadLocalThread;
+import io.netty.util.internal.PlatformDependent;
 
 class QuarkusNettyConnectionCache implements ConnectionCache {
 
+    private static final MethodHandle virtualMh = PlatformDependent.javaVersion() >= 21 ? findVirtualMH() : null;
+
     final FastThreadLocal<Acquirable> connectionCache = new FastThreadLocal<>();
 
+    // Virtual threads are short-lived and usually not reused, so a thread local cache would always miss.
+    // Instead, the last connections returned by virtual threads are kept in a small striped array.
+    // Sharing a slot is safe because Acquirable.acquire() guarantees that only one thread can use a connection.
+    private final AtomicReferenceArray<Acquirable> virtualThreadCache;
+    private final int virtualThreadCacheMask;
+
+    QuarkusNettyConnectionCache() {
+        if (virtualMh != null) {
+            int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+            this.virtualThreadCache = new AtomicReferenceArray<>(stripes);
+            this.virtualThreadCacheMask = stripes - 1;
+        } else {
+            this.virtualThreadCache = null;
+            this.virtualThreadCacheMask = 0;
+        }
+    }
+
     @Override
     public Acquirable get() {
         Thread thread = Thread.currentThread();
@@ -23,6 +48,10 @@ public Acquirable get() {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
+        if (virtualThreadCache != null && isVirtual(thread)) {
+            Acquirable acquirable = virtualThreadCache.get(stripe(thread));
+            return acquirable != null && acquirable.acquire() ? acquirable : null;
+        }
         return null;
     }
 
@@ -31,6 +60,32 @@ public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else if (virtualThreadCache != null && isVirtual(thread)) {
+            virtualThreadCache.lazySet(stripe(thread), acquirable);
+        }
+    }
+
+    int stripe(Thread thread) {
+        long id = thread.getId();
+        // Spread the sequential thread ids
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & virtualThreadCacheMask;
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) virtualMh.invokeExact(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findVirtualMH() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                    MethodType.methodType(boolean.class));
+        } catch (Exception e) {
+            return null;
         }
     }
 
@@ -40,6 +95,11 @@ public void reset() {
         // this method in `housingkeepingExecutor` thread only, so business threads still
         // hold references to `ConnectionHandler` objects.
         connectionCache.remove();
+        if (virtualThreadCache != null) {
+            for (int i = 0; i < virtualThreadCache.length(); i++) {
+                virtualThreadCache.set(i, null);
+            }
+        }
 
         // `FastThreadLocalThread` uses an array and increasing index for `FastThreadLocal`, the thread
         // local variables will *never* be expunged until the thread exits, so `FastThreadLocal` instance
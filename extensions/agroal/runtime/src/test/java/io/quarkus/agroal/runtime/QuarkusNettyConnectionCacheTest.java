@@ -0,0 +1,126 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.agroal.api.cache.Acquirable;
+import io.netty.util.concurrent.FastThreadLocalThread;
+
+class QuarkusNettyConnectionCacheTest {
+
+    @Test
+    void platformThreadControlledByQuarkus() throws Throwable {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache();
+        runOn(new FastThreadLocalThread(() -> verifyCached(cache)));
+    }
+
+    @Test
+    void otherPlatformThreadIsNotCached() throws Throwable {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache();
+        runOn(new Thread(() -> {
+            FakeConnection connection = new FakeConnection();
+            cache.put(connection.acquirable);
+            assertNull(cache.get());
+        }));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThread() throws Throwable {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache();
+        runOn(newVirtualThread(() -> verifyCached(cache)));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsShareStripes() throws Throwable {
+        QuarkusNettyConnectionCache cache = new QuarkusNettyConnectionCache();
+        FakeConnection connection = new FakeConnection();
+        Thread putter = newVirtualThread(() -> cache.put(connection.acquirable));
+        int stripe = cache.stripe(putter);
+        runOn(putter);
+        // a virtual thread mapped to another stripe does not see the connection
+        runOn(newVirtualThread(cache, s -> s != stripe, () -> assertNull(cache.get())));
+        // the connection was returned, so a virtual thread mapped to the same stripe gets it, but only once
+        CompletableFuture<Acquirable> first = new CompletableFuture<>();
+        CompletableFuture<Acquirable> second = new CompletableFuture<>();
+        runOn(newVirtualThread(cache, s -> s == stripe, () -> {
+            first.complete(cache.get());
+            second.complete(cache.get());
+        }));
+        assertSame(connection.acquirable, first.get());
+        assertNull(second.get());
+        // not visible to platform threads, even those with a thread local cache
+        connection.release();
+        runOn(new FastThreadLocalThread(() -> assertNull(cache.get())));
+    }
+
+    private static void verifyCached(QuarkusNettyConnectionCache cache) {
+        assertNull(cache.get());
+        FakeConnection connection = new FakeConnection();
+        cache.put(connection.acquirable);
+        assertSame(connection.acquirable, cache.get());
+        // already in use
+        assertNull(cache.get());
+
+        connection.release();
+        cache.put(connection.acquirable);
+        cache.reset();
+        assertNull(cache.get());
+    }
+
+    private static void runOn(Thread thread) throws Throwable {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        thread.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+        thread.start();
+        thread.join(10_000);
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private static Thread newVirtualThread(Runnable task) throws Exception {
+        // Thread.ofVirtual() is not available when compiling for Java 17
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        return (Thread) Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class)
+                .invoke(builder, task);
+    }
+
+    private static Thread newVirtualThread(QuarkusNettyConnectionCache cache, IntPredicate stripe, Runnable task)
+            throws Exception {
+        // the thread id, and so the stripe, is assigned when the thread is created
+        Thread thread = newVirtualThread(task);
+        while (!stripe.test(cache.stripe(thread))) {
+            thread = newVirtualThread(task);
+        }
+        return thread;
+    }
+
+    static final class FakeConnection {
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+
+        final Acquirable acquirable = (Acquirable) Proxy.newProxyInstance(Acquirable.class.getClassLoader(),
+                new Class<?>[] { Acquirable.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "acquire" -> inUse.compareAndSet(false, true);
+                    case "isAcquirable" -> !inUse.get();
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "FakeConnection";
+                });
+
+        void release() {
+            inUse.set(false);
+        }
+    }
+}
@@ -442,7 +442,7 @@ private void devModeStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerCo
         }
     }
 
-    private void applyNettySettings(GrpcServerConfiguration configuration, VertxServerBuilder builder) {
+    static void applyNettySettings(GrpcServerConfiguration configuration, VertxServerBuilder builder) {
         if (configuration.netty() != null) {
             GrpcServerConfiguration.GrpcServerNettyConfig config = configuration.netty();
             NettyServerBuilder nettyServerBuilder = builder.nettyBuilder();
@@ -453,6 +453,7 @@ private void applyNettySettings(GrpcServerConfiguration configuration, VertxServ
             config.permitKeepAliveTime().ifPresent(
                     duration -> nettyServerBuilder.permitKeepAliveTime(duration.toNanos(), TimeUnit.NANOSECONDS));
             config.permitKeepAliveWithoutCalls().ifPresent(nettyServerBuilder::permitKeepAliveWithoutCalls);
+            config.flowControlWindow().ifPresent(nettyServerBuilder::flowControlWindow);
         }
     }
 
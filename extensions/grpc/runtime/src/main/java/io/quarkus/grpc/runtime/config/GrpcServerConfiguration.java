@@ -237,6 +237,14 @@ public interface GrpcServerNettyConfig {
          */
         Optional<Boolean> permitKeepAliveWithoutCalls();
 
+        /**
+         * The HTTP/2 flow control window of each stream, in bytes. Default is 1MiB.
+         * <p>
+         * Streaming calls transferring large volumes of data may need a bigger window to keep the connection busy,
+         * at the expense of more data buffered per stream.
+         */
+        OptionalInt flowControlWindow();
+
     }
 
     @ConfigGroup
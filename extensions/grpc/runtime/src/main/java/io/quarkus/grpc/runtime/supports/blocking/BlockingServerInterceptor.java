@@ -9,6 +9,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -317,67 +318,72 @@ public void onReady() {
      * Note that event must be executed in order, explaining why incomingEvents
      * are executed sequentially
      * <p>
-     * This replay listener is only used for virtual threads.
+     * This replay listener is only used for virtual threads. Instead of dispatching each event to a new virtual thread,
+     * the events are drained in a loop by a single virtual thread, which is only started when the queue was idle.
      */
     private class VirtualReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
         private final InjectableContext.ContextState requestContextState;
+        private final Context grpcContext;
+        private final ClassLoader tccl;
 
-        // exclusive to event loop context
-        private ServerCall.Listener<ReqT> delegate;
+        private volatile ServerCall.Listener<ReqT> delegate;
         private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ConcurrentLinkedQueue<>();
-        private volatile boolean isConsumingFromIncomingEvents = false;
+        // number of drain requests, a virtual thread is draining the queue while it is not zero
+        private final AtomicInteger drainRequests = new AtomicInteger();
 
         private VirtualReplayListener(InjectableContext.ContextState requestContextState) {
             this.requestContextState = requestContextState;
+            this.grpcContext = Context.current();
+            this.tccl = Thread.currentThread().getContextClassLoader();
         }
 
         /**
-         * Must be called from within the event loop context
-         * If there are deferred events will start executing them in the shared worker context
+         * If there are deferred events will start executing them on a virtual thread
          *
          * @param delegate the original
          */
         void setDelegate(ServerCall.Listener<ReqT> delegate) {
             this.delegate = delegate;
-            if (!this.isConsumingFromIncomingEvents) {
-                Consumer<ServerCall.Listener<ReqT>> consumer = incomingEvents.poll();
-                if (consumer != null) {
-                    executeVirtualWithRequestContext(consumer);
-                }
-            }
+            scheduleDrain();
         }
 
         private void scheduleOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            if (this.delegate != null && !this.isConsumingFromIncomingEvents) {
-                executeVirtualWithRequestContext(consumer);
-            } else {
-                incomingEvents.add(consumer);
+            incomingEvents.add(consumer);
+            if (this.delegate != null) {
+                scheduleDrain();
             }
         }
 
-        private void executeVirtualWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            final Context grpcContext = Context.current();
+        private void scheduleDrain() {
+            if (drainRequests.getAndIncrement() == 0) {
+                virtualThreadExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int requests = 1;
+            do {
+                Consumer<ServerCall.Listener<ReqT>> consumer;
+                while ((consumer = incomingEvents.poll()) != null) {
+                    executeWithRequestContext(consumer);
+                }
+                // the requests received while draining were served by the loop above, unless events were added since
+                requests = drainRequests.addAndGet(-requests);
+            } while (requests != 0);
+        }
+
+        private void executeWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
             Callable<Void> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
                     requestContextState, getRequestContext(), this);
             if (devMode) {
-                blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
-                        blockingHandler);
+                blockingHandler = new DevModeBlockingExecutionHandler(tccl, blockingHandler);
+            }
+            try {
+                blockingHandler.call();
+            } catch (Exception e) {
+                // keep draining, the following events of the call must not be stranded
+                log.error("Failed to process a gRPC event on a virtual thread", e);
             }
-            this.isConsumingFromIncomingEvents = true;
-            var finalBlockingHandler = blockingHandler;
-            virtualThreadExecutor.execute(() -> {
-                try {
-                    finalBlockingHandler.call();
-                    Consumer<ServerCall.Listener<ReqT>> next = incomingEvents.poll();
-                    if (next != null) {
-                        executeVirtualWithRequestContext(next);
-                    } else {
-                        this.isConsumingFromIncomingEvents = false;
-                    }
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            });
         }
 
         @Override
@@ -0,0 +1,53 @@
+package io.quarkus.grpc.runtime;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.netty.NettyServerBuilder;
+import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
+import io.vertx.grpc.VertxServerBuilder;
+
+class GrpcServerRecorderTest {
+
+    GrpcServerConfiguration configuration;
+    GrpcServerConfiguration.GrpcServerNettyConfig nettyConfig;
+    VertxServerBuilder builder;
+    NettyServerBuilder nettyBuilder;
+
+    @BeforeEach
+    void setup() {
+        configuration = mock(GrpcServerConfiguration.class);
+        nettyConfig = mock(GrpcServerConfiguration.GrpcServerNettyConfig.class);
+        when(configuration.netty()).thenReturn(nettyConfig);
+
+        builder = mock(VertxServerBuilder.class);
+        nettyBuilder = mock(NettyServerBuilder.class);
+        when(builder.nettyBuilder()).thenReturn(nettyBuilder);
+    }
+
+    @Test
+    void flowControlWindowIsApplied() {
+        when(nettyConfig.flowControlWindow()).thenReturn(OptionalInt.of(4 * 1024 * 1024));
+
+        GrpcServerRecorder.applyNettySettings(configuration, builder);
+
+        verify(nettyBuilder).flowControlWindow(4 * 1024 * 1024);
+    }
+
+    @Test
+    void flowControlWindowIsLeftToTheDefault() {
+        when(nettyConfig.flowControlWindow()).thenReturn(OptionalInt.empty());
+
+        GrpcServerRecorder.applyNettySettings(configuration, builder);
+
+        verify(nettyBuilder, never()).flowControlWindow(anyInt());
+    }
+}
@@ -4,9 +4,14 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -81,6 +86,49 @@ void testContextPropagation() throws Exception {
         }
     }
 
+    @Test
+    @Timeout(10)
+    void testVirtualThreadOrderedExecution() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ManagedContext requestContext = mock(ManagedContext.class);
+        when(requestContext.getState()).thenReturn(mock(InjectableContext.ContextState.class));
+        BlockingServerInterceptor interceptor = new BlockingServerInterceptor(vertx, Collections.emptyList(),
+                Collections.singletonList("virtual"), executor, false) {
+            @Override
+            protected ManagedContext getRequestContext() {
+                return requestContext;
+            }
+        };
+        final ServerCall serverCall = mock(ServerCall.class);
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/virtual");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(100);
+        ServerCallHandler serverCallHandler = (call, metadata) -> new ServerCall.Listener() {
+            @Override
+            public void onMessage(Object message) {
+                received.add(message);
+                latch.countDown();
+            }
+        };
+
+        final Context context = Context.current().withValue(USERNAME, "my-user");
+        Context previous = context.attach();
+        try {
+            ServerCall.Listener listener = interceptor.interceptCall(serverCall, null, serverCallHandler);
+            // messages are sent while the call may still be starting
+            for (int i = 0; i < 100; i++) {
+                listener.onMessage(i);
+            }
+            latch.await();
+            assertThat(received).isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        } finally {
+            context.detach(previous);
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testGrpcMethodMappingWithReservedKeywords() {
         List<String> reservedKeywords = List.of(
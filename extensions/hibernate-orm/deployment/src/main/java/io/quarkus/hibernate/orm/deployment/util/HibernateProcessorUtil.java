@@ -433,6 +433,10 @@ public static void configureProperties(QuarkusPersistenceUnitDescriptor desc, Hi
                 fetchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
                         String.valueOf(fetchSize)));
 
+        config.jdbc().orderInserts().ifPresent(
+                orderInserts -> desc.getProperties().setProperty(AvailableSettings.ORDER_INSERTS,
+                        String.valueOf(orderInserts)));
+
         // Statistics
         if (hibernateOrmConfig.metrics().enabled()
                 || (hibernateOrmConfig.statistics().isPresent() && hibernateOrmConfig.statistics().get())) {
@@ -0,0 +1,101 @@
+package io.quarkus.hibernate.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.transaction.Transactional;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks the flush metrics, which are computed by event listeners rather than from Hibernate statistics objects.
+ */
+public class HibernateFlushMetricsTestCase {
+
+    private static final Tag PU_TAG = new Tag("entityManagerFactory",
+            PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+
+    @RegisterExtension
+    static QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addAsResource("application-metrics-enabled.properties", "application.properties")
+            .addClasses(FlushedEntity.class));
+
+    @Entity(name = "FlushedEntity")
+    static class FlushedEntity {
+
+        @Id
+        private Long number;
+
+        private String name;
+    }
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    @Transactional
+    public void explicitFlush() {
+        long flushes = getFlushCount();
+        long entities = getCounterValue("hibernate.flush.entities");
+
+        FlushedEntity entity = new FlushedEntity();
+        entity.number = 1L;
+        em.persist(entity);
+        em.flush();
+
+        assertThat(getFlushCount()).isEqualTo(flushes + 1);
+        assertThat(getCounterValue("hibernate.flush.entities")).isEqualTo(entities + 1);
+        assertThat(getFlushTimer().getElapsedTime()).isPositive();
+    }
+
+    @Test
+    @Transactional
+    public void autoFlush() {
+        FlushedEntity entity = new FlushedEntity();
+        entity.number = 2L;
+        em.persist(entity);
+        long flushes = getFlushCount();
+
+        // The pending insert must be flushed before running a query on the same table
+        assertThat(em.createQuery("from FlushedEntity e where e.number = 2").getResultList()).hasSize(1);
+        assertThat(getFlushCount()).isEqualTo(flushes + 1);
+
+        // Nothing left to flush: the auto-flush is not recorded
+        em.createQuery("from FlushedEntity e").getResultList();
+        assertThat(getFlushCount()).isEqualTo(flushes + 1);
+    }
+
+    private SimpleTimer getFlushTimer() {
+        SimpleTimer timer = metricRegistry.getSimpleTimers().get(new MetricID("hibernate.flush.duration", PU_TAG));
+        assertThat(timer).isNotNull();
+        return timer;
+    }
+
+    private long getFlushCount() {
+        return getFlushTimer().getCount();
+    }
+
+    private long getCounterValue(String metricName) {
+        Counter metric = metricRegistry.getCounters().get(new MetricID(metricName, PU_TAG));
+        assertThat(metric).isNotNull();
+        return metric.getCount();
+    }
+
+}
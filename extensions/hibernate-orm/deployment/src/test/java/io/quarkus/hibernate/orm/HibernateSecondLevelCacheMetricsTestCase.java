@@ -0,0 +1,107 @@
+package io.quarkus.hibernate.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.transaction.UserTransaction;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks the per-region metrics of the second-level cache.
+ */
+public class HibernateSecondLevelCacheMetricsTestCase {
+
+    private static final Tag PU_TAG = new Tag("entityManagerFactory",
+            PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+
+    @RegisterExtension
+    static QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addAsResource("application-metrics-enabled.properties", "application.properties")
+            .addClasses(CachedEntity.class));
+
+    @Entity(name = "CachedEntity")
+    @Cacheable
+    static class CachedEntity {
+
+        @Id
+        private Long id;
+
+        private String name;
+    }
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    public void testRegionMetrics() throws Exception {
+        transaction.begin();
+        for (long i = 1; i <= 3; i++) {
+            CachedEntity entity = new CachedEntity();
+            entity.id = i;
+            entity.name = "entity" + i;
+            em.persist(entity);
+        }
+        transaction.commit();
+        transaction.begin();
+        for (long i = 1; i <= 3; i++) {
+            assertThat(em.find(CachedEntity.class, i)).isNotNull();
+        }
+        transaction.commit();
+
+        String[] regionNames = sessionFactory.getStatistics().getSecondLevelCacheRegionNames();
+        assertThat(regionNames).isNotEmpty();
+        for (String regionName : regionNames) {
+            Tag regionTag = new Tag("region", regionName);
+            CacheRegionStatistics regionStatistics = sessionFactory.getStatistics()
+                    .getDomainDataRegionStatistics(regionName);
+
+            Counter puts = metricRegistry.getCounters().get(new MetricID("hibernate.second.level.cache.puts",
+                    PU_TAG, regionTag));
+            assertThat(puts).isNotNull();
+            assertThat(puts.getCount()).isEqualTo(regionStatistics.getPutCount());
+
+            // the gauges are only published if the region factory reports the values
+            assertGauge("hibernate.second.level.cache.elements", regionTag,
+                    regionStatistics.getElementCountInMemory());
+            assertGauge("hibernate.second.level.cache.size", regionTag, regionStatistics.getSizeInMemory());
+        }
+    }
+
+    private void assertGauge(String metricName, Tag regionTag, long statisticsValue) {
+        Gauge<?> gauge = metricRegistry.getGauges().get(new MetricID(metricName, PU_TAG, regionTag));
+        if (statisticsValue == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+            assertThat(gauge).isNull();
+        } else {
+            assertThat(gauge).isNotNull();
+            assertThat(((Number) gauge.getValue()).longValue()).isEqualTo(statisticsValue);
+        }
+    }
+
+}
@@ -3,10 +3,12 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
@@ -32,7 +34,15 @@ public class ConfigPropertiesTest {
             .overrideConfigKey("quarkus.hibernate-orm.\"overrides\".packages", MyEntityForOverridesPU.class.getPackageName())
             .overrideConfigKey("quarkus.hibernate-orm.\"overrides\".datasource", "<default>")
             // Overrides to test that Quarkus configuration properties are taken into account
-            .overrideConfigKey("quarkus.hibernate-orm.\"overrides\".flush.mode", "always");
+            .overrideConfigKey("quarkus.hibernate-orm.\"overrides\".flush.mode", "always")
+            .overrideConfigKey("quarkus.hibernate-orm.\"overrides\".jdbc.order-inserts", "true");
+
+    @Inject
+    EntityManagerFactory emfForDefaultPU;
+
+    @Inject
+    @PersistenceUnit("overrides")
+    EntityManagerFactory emfForOverridesPU;
 
     @Inject
     Session sessionForDefaultPU;
@@ -48,4 +58,10 @@ public void propertiesAffectingSession() {
         assertThat(sessionForOverridesPU.getHibernateFlushMode()).isEqualTo(FlushMode.ALWAYS);
     }
 
+    @Test
+    public void propertiesAffectingEntityManagerFactory() {
+        assertThat(emfForDefaultPU.getProperties()).doesNotContainKey(AvailableSettings.ORDER_INSERTS);
+        assertThat(emfForOverridesPU.getProperties()).containsEntry(AvailableSettings.ORDER_INSERTS, "true");
+    }
+
 }
@@ -121,7 +121,7 @@ public void testPropertiesPropagatedToRuntimeInit() {
                         entry("hibernate.some.unknown.key.runtime-only", "some-value-2"));
     }
 
-    // This tests a particular feature that can (currently) only be enabled with unsupported properties
+    // This tests a particular feature that can also be enabled with unsupported properties
     @Test
     public void testInsertsOrdered() {
         var listener = new BatchCountSpyingEventListener();
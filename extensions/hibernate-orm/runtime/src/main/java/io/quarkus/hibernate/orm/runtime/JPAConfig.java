@@ -94,6 +94,21 @@ public List<Tuple2<String, EntityManagerFactory>> getEntityManagerFactories() {
         return allEntityManagerFactories;
     }
 
+    /**
+     * @return The entity manager factories of the persistence units that are not reactive,
+     *         i.e. those whose event listeners are the blocking Hibernate ORM ones.
+     */
+    public List<Tuple2<String, EntityManagerFactory>> getBlockingEntityManagerFactories() {
+        List<Tuple2<String, EntityManagerFactory>> blockingEntityManagerFactories = new ArrayList<>();
+        for (LazyPersistenceUnit pu : persistenceUnits.values()) {
+            if (!pu.isReactive) {
+                blockingEntityManagerFactories.add(Tuple2.of(pu.name, getEntityManagerFactory(pu.name, false)));
+            }
+        }
+
+        return blockingEntityManagerFactories;
+    }
+
     public EntityManagerFactory getEntityManagerFactory(String unitName, boolean reactive) {
         LazyPersistenceUnit lazyPersistenceUnit = null;
         if (unitName == null) {
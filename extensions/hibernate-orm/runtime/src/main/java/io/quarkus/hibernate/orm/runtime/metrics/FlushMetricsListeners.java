@@ -0,0 +1,84 @@
+package io.quarkus.hibernate.orm.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Measures the duration of the flushes of a persistence unit, and the number of entities and collections they process.
+ * <p>
+ * The {@link #before()} listener must be the first flush listener and the {@link #after()} listener the last one,
+ * so that the measure includes the dirty-checking of all the managed entities and the execution of the statements.
+ * The same goes for the {@link #beforeAuto()} and {@link #afterAuto()} listeners, which measure the flushes triggered
+ * by queries; auto-flushes that turn out not to be required are not recorded.
+ */
+final class FlushMetricsListeners {
+
+    private final ThreadLocal<long[]> start = ThreadLocal.withInitial(() -> new long[1]);
+    private final MetricsFactory.TimeRecorder duration;
+    final LongAdder entities = new LongAdder();
+    final LongAdder collections = new LongAdder();
+
+    FlushMetricsListeners(MetricsFactory.TimeRecorder duration) {
+        this.duration = duration;
+    }
+
+    FlushEventListener before() {
+        return new BeforeFlush();
+    }
+
+    FlushEventListener after() {
+        return new AfterFlush();
+    }
+
+    AutoFlushEventListener beforeAuto() {
+        return new BeforeAutoFlush();
+    }
+
+    AutoFlushEventListener afterAuto() {
+        return new AfterAutoFlush();
+    }
+
+    private void record(FlushEvent event) {
+        long elapsed = System.nanoTime() - start.get()[0];
+        entities.add(event.getNumberOfEntitiesProcessed());
+        collections.add(event.getNumberOfCollectionsProcessed());
+        duration.update(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private final class BeforeFlush implements FlushEventListener {
+        @Override
+        public void onFlush(FlushEvent event) {
+            start.get()[0] = System.nanoTime();
+        }
+    }
+
+    private final class AfterFlush implements FlushEventListener {
+        @Override
+        public void onFlush(FlushEvent event) {
+            record(event);
+        }
+    }
+
+    private final class BeforeAutoFlush implements AutoFlushEventListener {
+        @Override
+        public void onAutoFlush(AutoFlushEvent event) {
+            start.get()[0] = System.nanoTime();
+        }
+    }
+
+    private final class AfterAutoFlush implements AutoFlushEventListener {
+        @Override
+        public void onAutoFlush(AutoFlushEvent event) {
+            if (event.isFlushRequired()) {
+                record(event);
+            }
+        }
+    }
+}
@@ -2,12 +2,19 @@
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import jakarta.persistence.EntityManagerFactory;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
@@ -36,6 +43,14 @@ public void accept(MetricsFactory metricsFactory) {
                         registerMetrics(metricsFactory, emf.getItem1(), sessionFactory.getStatistics());
                     }
                 }
+                // Hibernate Reactive expects every flush listener to be a ReactiveFlushEventListener,
+                // so the flush listeners are only added to blocking persistence units.
+                for (Tuple2<String, EntityManagerFactory> emf : jpaConfig.getBlockingEntityManagerFactories()) {
+                    SessionFactory sessionFactory = emf.getItem2().unwrap(SessionFactory.class);
+                    if (sessionFactory != null) {
+                        registerFlushMetrics(metricsFactory, emf.getItem1(), sessionFactory);
+                    }
+                }
             }
         };
     }
@@ -106,6 +121,20 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                             "The number of entities/collections put in the second level cache",
                             puName, regionStatistics, CacheRegionStatistics::getPutCount,
                             "region", regionName);
+                    // Not all cache providers can report the content of a region
+                    if (regionStatistics
+                            .getElementCountInMemory() != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+                        createStatisticsGauge(metricsFactory, "hibernate.second.level.cache.elements",
+                                "The number of entities/collections currently held in memory by the second level cache",
+                                puName, regionStatistics, CacheRegionStatistics::getElementCountInMemory,
+                                "region", regionName);
+                    }
+                    if (regionStatistics.getSizeInMemory() != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+                        createStatisticsGauge(metricsFactory, "hibernate.second.level.cache.size",
+                                "The memory used by the second level cache, in bytes",
+                                puName, regionStatistics, CacheRegionStatistics::getSizeInMemory,
+                                "region", regionName);
+                    }
                 });
 
         // Entity Information
@@ -206,6 +235,37 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register flush metrics, which are not available through the statistics
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param sessionFactory Session factory of the persistence unit
+     */
+    void registerFlushMetrics(MetricsFactory metricsFactory, String puName, SessionFactory sessionFactory) {
+        FlushMetricsListeners listeners = new FlushMetricsListeners(
+                createBuilder(metricsFactory, "hibernate.flush.duration",
+                        "The time spent flushing sessions, including dirty-checking and statement execution",
+                        puName).buildTimer());
+        createBuilder(metricsFactory, "hibernate.flush.entities",
+                "The number of entities processed by flushes, i.e. dirty-checked or inserted",
+                puName).buildCounter(listeners.entities, LongAdder::sum);
+        createBuilder(metricsFactory, "hibernate.flush.collections",
+                "The number of collections processed by flushes",
+                puName).buildCounter(listeners.collections, LongAdder::sum);
+
+        EventListenerRegistry listenerRegistry = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        EventListenerGroup<FlushEventListener> flushListeners = listenerRegistry.getEventListenerGroup(EventType.FLUSH);
+        flushListeners.prependListener(listeners.before());
+        flushListeners.appendListener(listeners.after());
+        // Flushes triggered by queries go through the auto-flush listeners instead
+        EventListenerGroup<AutoFlushEventListener> autoFlushListeners = listenerRegistry
+                .getEventListenerGroup(EventType.AUTO_FLUSH);
+        autoFlushListeners.prependListener(listeners.beforeAuto());
+        autoFlushListeners.appendListener(listeners.afterAuto());
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
@@ -213,6 +273,13 @@ <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricNam
                 .buildCounter(statistics, f);
     }
 
+    <T> void createStatisticsGauge(MetricsFactory metricsFactory, String metricName, String description,
+            String puName, T statistics, Function<T, Long> f, String... tags) {
+
+        createBuilder(metricsFactory, metricName, description, puName, tags)
+                .buildGauge(statistics, f);
+    }
+
     void createTimeGauge(MetricsFactory metricsFactory, String metricName, String description,
             String puName, Statistics statistics, Function<Statistics, Long> f, String... tags) {
 
@@ -0,0 +1,60 @@
+package io.quarkus.hibernate.reactive.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.reactive.entities.Hero;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.vertx.RunOnVertxContext;
+import io.quarkus.test.vertx.UniAsserter;
+
+/**
+ * Checks that enabling metrics does not break flushes of reactive persistence units,
+ * whose flush listeners must all be reactive ones.
+ */
+public class ReactiveMetricsTest {
+
+    private static final Tag PU_TAG = new Tag("entityManagerFactory",
+            PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(Hero.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.metrics.enabled", "true");
+
+    @Inject
+    Mutiny.SessionFactory sessionFactory;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    @RunOnVertxContext
+    public void flush(UniAsserter asserter) {
+        Hero hero = new Hero();
+        hero.name = "Galadriel";
+        asserter.assertThat(() -> sessionFactory.withTransaction(s -> s.persist(hero).call(s::flush))
+                .chain(() -> sessionFactory.withSession(s -> s.createQuery("from Hero h where h.name = :name", Hero.class)
+                        .setParameter("name", "Galadriel").getResultList())),
+                list -> assertThat(list).hasSize(1));
+        asserter.execute(() -> {
+            // Statistics-based metrics are still there, the listener-based flush metrics are not
+            assertThat(metricRegistry.getCounters()).containsKey(new MetricID("hibernate.flushes", PU_TAG));
+            assertThat(metricRegistry.getSimpleTimers()).doesNotContainKey(new MetricID("hibernate.flush.duration", PU_TAG));
+        });
+    }
+
+}
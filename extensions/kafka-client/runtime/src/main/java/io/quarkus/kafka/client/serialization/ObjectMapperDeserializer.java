@@ -1,29 +1,28 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final JavaType type;
-    private final ObjectMapper objectMapper;
+    // the reader resolves the root deserializer once, instead of looking it up for each record
+    private final ObjectReader reader;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(type);
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(TypeFactory.defaultInstance().constructType(type));
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference) {
@@ -31,8 +30,7 @@ public ObjectMapperDeserializer(TypeReference<T> typeReference) {
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(typeReference);
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(TypeFactory.defaultInstance().constructType(typeReference));
     }
 
     @Override
@@ -45,8 +43,22 @@ public T deserialize(String topic, byte[] data) {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, ByteBuffer data) {
+        if (data == null || !data.hasArray() || !deserializeInPlace()) {
+            return Deserializer.super.deserialize(topic, headers, data);
+        }
+
+        // parse the record straight from the fetched buffer instead of copying it to a new array
+        try {
+            return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -55,4 +67,17 @@ public T deserialize(String topic, byte[] data) {
     @Override
     public void close() {
     }
+
+    /**
+     * Whether records handed over as heap {@link ByteBuffer}s are parsed in place, without copying them to a new array
+     * first.
+     * <p>
+     * Parsing in place bypasses the {@code byte[]} variants of {@code deserialize}, so it is only enabled for this class
+     * by default. Subclasses that do not override these variants can return {@code true}.
+     *
+     * @return {@code true} if heap buffers are parsed in place
+     */
+    protected boolean deserializeInPlace() {
+        return getClass() == ObjectMapperDeserializer.class;
+    }
 }
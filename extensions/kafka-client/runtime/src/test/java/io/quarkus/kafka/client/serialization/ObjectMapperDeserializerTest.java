@@ -4,8 +4,12 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -20,6 +24,58 @@ void shouldDeserializeEntity() {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void shouldDeserializeEntityFromByteBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        byte[] record = "--{\"id\":1,\"name\":\"entity1\"}--".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(record, 2, record.length - 4).slice();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), buffer));
+        ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining()).put(buffer.duplicate()).flip();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), direct));
+    }
+
+    @Test
+    void shouldDelegateByteBufferToOverriddenByteArrayVariants() {
+        MyEntity overridden = new MyEntity(2, "overridden");
+        ByteBuffer buffer = ByteBuffer.wrap("{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8));
+
+        ObjectMapperDeserializer<MyEntity> withoutHeaders = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, byte[] data) {
+                return overridden;
+            }
+        };
+        assertEquals(overridden, withoutHeaders.deserialize("topic", new RecordHeaders(), buffer.duplicate()));
+
+        ObjectMapperDeserializer<MyEntity> withHeaders = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, Headers headers, byte[] data) {
+                return overridden;
+            }
+        };
+        assertEquals(overridden, withHeaders.deserialize("topic", new RecordHeaders(), buffer.duplicate()));
+    }
+
+    @Test
+    void shouldParseByteBufferInPlaceWhenSubclassOptsIn() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ByteBuffer buffer = ByteBuffer.wrap("{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8));
+
+        ObjectMapperDeserializer<MyEntity> inPlace = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, byte[] data) {
+                throw new AssertionError("The record should be parsed in place");
+            }
+
+            @Override
+            protected boolean deserializeInPlace() {
+                return true;
+            }
+        };
+        assertEquals(expected, inPlace.deserialize("topic", new RecordHeaders(), buffer.duplicate()));
+    }
+
     @Test
     void shouldDeserializeListOfEntities() {
         TypeReference<List<MyEntity>> listType = new TypeReference<>() {
@@ -33,6 +33,7 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import io.quarkus.kafka.streams.runtime.BoundedMemoryRocksDBConfigSetter;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsProducer;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsSupport;
@@ -104,6 +105,10 @@ private void registerCompulsoryClasses(BuildProducer<ReflectiveClassBuildItem> r
                         org.apache.kafka.streams.state.BuiltInDslStoreSuppliers.InMemoryDslStoreSuppliers.class)
                 .reason(getClass().getName())
                 .build());
+        reflectiveClasses.produce(ReflectiveClassBuildItem
+                .builder(BoundedMemoryRocksDBConfigSetter.class)
+                .reason(getClass().getName())
+                .build());
         reflectiveClasses.produce(ReflectiveClassBuildItem
                 .builder(org.apache.kafka.streams.errors.LogAndFailProcessingExceptionHandler.class,
                         org.apache.kafka.streams.errors.LogAndContinueProcessingExceptionHandler.class)
@@ -0,0 +1,78 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * A {@link RocksDBConfigSetter} making all the RocksDB state stores share a single bounded block cache, which the
+ * memtables are also charged to.
+ * <p>
+ * Registered when {@code quarkus.kafka-streams.rocksdb.total-memory} is set. The sizes are passed through
+ * {@link #configure(long, double)} rather than through the streams properties, which Kafka would report as unknown.
+ */
+public class BoundedMemoryRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    // share of the cache reserved to index and filter blocks, so that they do not get evicted by data blocks
+    private static final double INDEX_FILTER_BLOCK_RATIO = 0.1;
+
+    private static long totalMemory;
+    private static double memtableRatio;
+
+    // package-private for tests
+    static Cache cache;
+    static WriteBufferManager writeBufferManager;
+
+    static synchronized void configure(long totalMemory, double memtableRatio) {
+        if (totalMemory <= 0) {
+            throw new IllegalArgumentException(
+                    "quarkus.kafka-streams.rocksdb.total-memory must be positive, got " + totalMemory);
+        }
+        if (!(memtableRatio > 0 && memtableRatio <= 1)) {
+            throw new IllegalArgumentException(
+                    "quarkus.kafka-streams.rocksdb.memtable-ratio must be greater than 0 and at most 1, got "
+                            + memtableRatio);
+        }
+        BoundedMemoryRocksDBConfigSetter.totalMemory = totalMemory;
+        BoundedMemoryRocksDBConfigSetter.memtableRatio = memtableRatio;
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        synchronized (BoundedMemoryRocksDBConfigSetter.class) {
+            if (cache == null) {
+                if (totalMemory == 0) {
+                    throw new IllegalStateException("quarkus.kafka-streams.rocksdb.total-memory is not set");
+                }
+                cache = new LRUCache(totalMemory, -1, false, INDEX_FILTER_BLOCK_RATIO);
+                writeBufferManager = new WriteBufferManager((long) (totalMemory * memtableRatio), cache);
+            }
+            tableConfig.setBlockCache(cache);
+            options.setWriteBufferManager(writeBufferManager);
+        }
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinTopLevelIndexAndFilter(true);
+        options.setTableFormatConfig(tableConfig);
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the cache and the write buffer manager are shared by all the stores, see closeSharedResources()
+    }
+
+    static synchronized void closeSharedResources() {
+        if (cache != null) {
+            writeBufferManager.close();
+            cache.close();
+            writeBufferManager = null;
+            cache = null;
+        }
+    }
+}
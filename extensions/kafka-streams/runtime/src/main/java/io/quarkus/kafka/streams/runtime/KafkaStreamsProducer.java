@@ -147,6 +147,7 @@ void onStop(@Observes ShutdownEvent event) {
         if (kafkaStreams != null) {
             LOGGER.debug("Stopping Kafka Streams pipeline");
             kafkaStreams.close();
+            BoundedMemoryRocksDBConfigSetter.closeSharedResources();
         }
         if (kafkaAdminClient != null) {
             kafkaAdminClient.close(Duration.ZERO);
@@ -261,6 +262,20 @@ private static Properties getStreamsProperties(Properties properties,
                     SslConfigs.SSL_SECURE_RANDOM_IMPLEMENTATION_CONFIG);
         }
 
+        // rocksdb
+        RocksDBConfig rocksdb = runtimeConfig.rocksdb();
+        if (rocksdb.totalMemory().isPresent()) {
+            if (streamsProperties.containsKey(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG)) {
+                LOGGER.warnf("Ignoring quarkus.kafka-streams.rocksdb.total-memory as %s is set",
+                        StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+            } else {
+                BoundedMemoryRocksDBConfigSetter.configure(rocksdb.totalMemory().get().asLongValue(),
+                        rocksdb.memtableRatio());
+                streamsProperties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG,
+                        BoundedMemoryRocksDBConfigSetter.class.getName());
+            }
+        }
+
         return streamsProperties;
     }
 
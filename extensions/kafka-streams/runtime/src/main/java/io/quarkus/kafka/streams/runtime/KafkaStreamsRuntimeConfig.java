@@ -94,4 +94,9 @@ public interface KafkaStreamsRuntimeConfig {
      */
     SslConfig ssl();
 
+    /**
+     * RocksDB state stores config
+     */
+    RocksDBConfig rocksdb();
+
 }
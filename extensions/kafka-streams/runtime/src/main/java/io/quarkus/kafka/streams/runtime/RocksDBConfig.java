@@ -0,0 +1,26 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface RocksDBConfig {
+
+    /**
+     * The total amount of off-heap memory used by the block caches, the index and filter blocks and the memtables of all
+     * the RocksDB state stores.
+     * <p>
+     * When set, all the state stores share a single block cache of this size, so that the memory used by RocksDB does not
+     * grow with the number of state stores. Ignored if {@code kafka-streams.rocksdb.config.setter} is set.
+     */
+    Optional<MemorySize> totalMemory();
+
+    /**
+     * The fraction of {@code total-memory} that can be used by the memtables, greater than 0 and at most 1.
+     */
+    @WithDefault("0.5")
+    double memtableRatio();
+}
@@ -0,0 +1,96 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+
+class BoundedMemoryRocksDBConfigSetterTest {
+
+    private static final long TOTAL_MEMORY = 16 * 1024 * 1024;
+
+    @AfterEach
+    void closeSharedResources() {
+        BoundedMemoryRocksDBConfigSetter.closeSharedResources();
+    }
+
+    @Test
+    void memtableRatioMustBeInRange() {
+        assertThrows(IllegalArgumentException.class, () -> BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, 0));
+        assertThrows(IllegalArgumentException.class, () -> BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, -0.5));
+        assertThrows(IllegalArgumentException.class, () -> BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, 1.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, Double.NaN));
+        assertDoesNotThrow(() -> BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, 1));
+    }
+
+    @Test
+    void totalMemoryMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> BoundedMemoryRocksDBConfigSetter.configure(0, 0.5));
+    }
+
+    @Test
+    void storesShareTheCacheAndWriteBufferManager() {
+        BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, 0.5);
+        BoundedMemoryRocksDBConfigSetter setter = new BoundedMemoryRocksDBConfigSetter();
+        try (Options first = newOptions(); Options second = newOptions()) {
+            setter.setConfig("first", first, Map.of());
+            Cache cache = BoundedMemoryRocksDBConfigSetter.cache;
+            WriteBufferManager writeBufferManager = BoundedMemoryRocksDBConfigSetter.writeBufferManager;
+            assertNotNull(cache);
+            assertNotNull(writeBufferManager);
+
+            setter.setConfig("second", second, Map.of());
+            assertSame(cache, BoundedMemoryRocksDBConfigSetter.cache);
+            assertSame(writeBufferManager, BoundedMemoryRocksDBConfigSetter.writeBufferManager);
+            assertTrue(((BlockBasedTableConfig) second.tableFormatConfig()).cacheIndexAndFilterBlocks());
+
+            // closing a store leaves the shared resources open for the others
+            setter.close("first", first);
+            assertTrue(cache.isOwningHandle());
+        }
+    }
+
+    @Test
+    void sharedResourcesAreRecreatedAfterClose() {
+        BoundedMemoryRocksDBConfigSetter.configure(TOTAL_MEMORY, 0.5);
+        BoundedMemoryRocksDBConfigSetter setter = new BoundedMemoryRocksDBConfigSetter();
+        try (Options options = newOptions(); Options reopened = newOptions()) {
+            setter.setConfig("store", options, Map.of());
+            Cache cache = BoundedMemoryRocksDBConfigSetter.cache;
+
+            BoundedMemoryRocksDBConfigSetter.closeSharedResources();
+            assertNull(BoundedMemoryRocksDBConfigSetter.cache);
+            assertNull(BoundedMemoryRocksDBConfigSetter.writeBufferManager);
+            assertFalse(cache.isOwningHandle());
+            // closing twice is a no-op
+            BoundedMemoryRocksDBConfigSetter.closeSharedResources();
+
+            // e.g. Kafka Streams restarted in dev mode
+            setter.setConfig("store", reopened, Map.of());
+            assertNotNull(BoundedMemoryRocksDBConfigSetter.cache);
+            assertNotSame(cache, BoundedMemoryRocksDBConfigSetter.cache);
+            assertTrue(BoundedMemoryRocksDBConfigSetter.cache.isOwningHandle());
+        }
+    }
+
+    private static Options newOptions() {
+        // Kafka Streams sets a block based table config before calling the config setter
+        Options options = new Options();
+        options.setTableFormatConfig(new BlockBasedTableConfig());
+        return options;
+    }
+}
@@ -2,11 +2,15 @@
 
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
@@ -15,6 +19,7 @@
 import jakarta.transaction.TransactionManager;
 
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.SelectionQuery;
@@ -32,8 +37,19 @@
 public abstract class AbstractJpaOperations<PanacheQueryType> {
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
+    // Translating a Panache query to HQL is cheap but happens on every call, while applications
+    // usually only use a small set of query strings: cache the translations, up to a limit, as queries
+    // built by concatenating values would otherwise fill the cache.
+    private static final int MAX_TRANSLATED_QUERIES = 2048;
+    private static final ConcurrentMap<TranslatedQueryKey, String> translatedQueries = new ConcurrentHashMap<>();
+
+    // Chunk size of insertAll when the persistence unit has no statement batch size.
+    static final int DEFAULT_INSERT_BATCH_SIZE = 50;
+
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
         entityToPersistenceUnit = Collections.unmodifiableMap(map);
+        // do not keep entity classes of a previous application (e.g. in dev mode)
+        translatedQueries.clear();
     }
 
     protected abstract PanacheQueryType createPanacheQuery(Session session, String query, String originalQuery, String orderBy,
@@ -92,6 +108,29 @@ public Session getSession(String persistentUnitName) {
     public Session getSession() {
         return getSession(DEFAULT_PERSISTENCE_UNIT_NAME);
     }
+
+    /**
+     * Returns the {@link StatelessSession} for the given {@link Class<?> entity}
+     *
+     * @return {@link StatelessSession}
+     */
+    public StatelessSession getStatelessSession(Class<?> clazz) {
+        String persistentUnitName = entityToPersistenceUnit.get(clazz.getName());
+        ArcContainer arcContainer = Arc.container();
+        InstanceHandle<StatelessSession> sessionHandle;
+        if (persistentUnitName == null || PersistenceUnitUtil.isDefaultPersistenceUnit(persistentUnitName)) {
+            sessionHandle = arcContainer.instance(StatelessSession.class);
+        } else {
+            sessionHandle = arcContainer.instance(StatelessSession.class,
+                    new PersistenceUnit.PersistenceUnitLiteral(persistentUnitName));
+        }
+        if (sessionHandle.isAvailable()) {
+            return sessionHandle.get();
+        }
+        // reuse the error reporting of the stateful session
+        getSession(persistentUnitName);
+        throw new IllegalStateException("No stateless session available for entity " + clazz.getName());
+    }
     //
     // Instance methods
 
@@ -107,9 +146,7 @@ public void persist(Session session, Object entity) {
     }
 
     public void persist(Iterable<?> entities) {
-        for (Object entity : entities) {
-            persist(getSession(entity.getClass()), entity);
-        }
+        persist(entities.iterator());
     }
 
     public void persist(Object firstEntity, Object... entities) {
@@ -120,7 +157,91 @@ public void persist(Object firstEntity, Object... entities) {
     }
 
     public void persist(Stream<?> entities) {
-        entities.forEach(entity -> persist(entity));
+        persist(entities.iterator());
+    }
+
+    private void persist(Iterator<?> entities) {
+        // only look the session up again when the entity type changes
+        Class<?> entityClass = null;
+        Session session = null;
+        while (entities.hasNext()) {
+            Object entity = entities.next();
+            if (entity.getClass() != entityClass) {
+                entityClass = entity.getClass();
+                session = getSession(entityClass);
+            }
+            persist(session, entity);
+        }
+    }
+
+    public void insertAll(Iterable<?> entities) {
+        insertAll(entities.iterator(), 0);
+    }
+
+    public void insertAll(Iterable<?> entities, int batchSize) {
+        insertAll(entities.iterator(), checkBatchSize(batchSize));
+    }
+
+    public void insertAll(Stream<?> entities) {
+        insertAll(entities.iterator(), 0);
+    }
+
+    public void insertAll(Stream<?> entities, int batchSize) {
+        insertAll(entities.iterator(), checkBatchSize(batchSize));
+    }
+
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be strictly positive, was " + batchSize);
+        }
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize the number of entities inserted in a single JDBC batch, or 0 to use the statement batch size of
+     *        the persistence unit
+     */
+    private void insertAll(Iterator<?> entities, int batchSize) {
+        Class<?> entityClass = null;
+        StatelessSession session = null;
+        int chunkSize = batchSize;
+        List<Object> chunk = new ArrayList<>();
+        while (entities.hasNext()) {
+            Object entity = entities.next();
+            if (entity.getClass() != entityClass) {
+                entityClass = entity.getClass();
+                StatelessSession entitySession = getStatelessSession(entityClass);
+                if (entitySession != session) {
+                    chunk = insertChunk(session, chunk);
+                    // the inserted entities may reference entities still pending in the persistence context
+                    getSession(entityClass).flush();
+                    session = entitySession;
+                    if (batchSize == 0) {
+                        chunkSize = getInsertBatchSize(session);
+                    }
+                }
+            }
+            chunk.add(entity);
+            if (chunk.size() >= chunkSize) {
+                chunk = insertChunk(session, chunk);
+            }
+        }
+        insertChunk(session, chunk);
+    }
+
+    private static int getInsertBatchSize(StatelessSession session) {
+        // stateless sessions do not batch statements by themselves, whatever the statement batch size of the factory
+        int statementBatchSize = session.getFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        return statementBatchSize > 0 ? statementBatchSize : DEFAULT_INSERT_BATCH_SIZE;
+    }
+
+    private static List<Object> insertChunk(StatelessSession session, List<Object> chunk) {
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        // sends the inserts of the chunk in a single JDBC batch
+        session.insertMultiple(chunk);
+        return new ArrayList<>(chunk.size());
     }
 
     public void delete(Object entity) {
@@ -212,7 +333,7 @@ public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Sort sor
             return createPanacheQuery(session, panacheQuery, panacheQuery, null, params);
         }
 
-        String translatedHqlQuery = PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount(params));
+        String translatedHqlQuery = translateQuery(QueryKind.FIND, entityClass, panacheQuery, paramCount(params));
         return createPanacheQuery(session, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort), params);
     }
 
@@ -233,7 +354,7 @@ public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Sort sor
             return createPanacheQuery(session, panacheQuery, panacheQuery, null, params);
         }
 
-        String translatedHqlQuery = PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount(params));
+        String translatedHqlQuery = translateQuery(QueryKind.FIND, entityClass, panacheQuery, paramCount(params));
         return createPanacheQuery(session, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort), params);
     }
 
@@ -334,7 +455,7 @@ public long count(Class<?> entityClass, String panacheQuery, Object... params) {
         }
 
         try {
-            String query = PanacheJpaUtil.createQueryForCount(entityClass, panacheQuery, paramCount(params));
+            String query = translateQuery(QueryKind.COUNT, entityClass, panacheQuery, paramCount(params));
             return bindParameters(getSession(entityClass).createSelectionQuery(query, Object.class), params).getResultCount();
         } catch (RuntimeException x) {
             throw NamedQueryUtil.checkForNamedQueryMistake(x, panacheQuery);
@@ -348,7 +469,7 @@ public long count(Class<?> entityClass, String panacheQuery, Map<String, Object>
         }
 
         try {
-            String query = PanacheJpaUtil.createQueryForCount(entityClass, panacheQuery, paramCount(params));
+            String query = translateQuery(QueryKind.COUNT, entityClass, panacheQuery, paramCount(params));
             return bindParameters(getSession(entityClass).createSelectionQuery(query, Object.class), params).getResultCount();
         } catch (RuntimeException x) {
             throw NamedQueryUtil.checkForNamedQueryMistake(x, panacheQuery);
@@ -419,7 +540,7 @@ public long delete(Class<?> entityClass, String panacheQuery, Object... params)
         try {
             return bindParameters(
                     getSession(entityClass).createMutationQuery(
-                            PanacheJpaUtil.createDeleteQuery(entityClass, panacheQuery, paramCount(params))),
+                            translateQuery(QueryKind.DELETE, entityClass, panacheQuery, paramCount(params))),
                     params)
                     .executeUpdate();
         } catch (RuntimeException x) {
@@ -436,7 +557,7 @@ public long delete(Class<?> entityClass, String panacheQuery, Map<String, Object
             return bindParameters(
                     getSession(entityClass)
                             .createMutationQuery(
-                                    PanacheJpaUtil.createDeleteQuery(entityClass, panacheQuery, paramCount(params))),
+                                    translateQuery(QueryKind.DELETE, entityClass, panacheQuery, paramCount(params))),
                     params)
                     .executeUpdate();
         } catch (RuntimeException x) {
@@ -448,6 +569,33 @@ public long delete(Class<?> entityClass, String query, Parameters params) {
         return delete(entityClass, query, params.map());
     }
 
+    static String translateQuery(QueryKind kind, Class<?> entityClass, String panacheQuery, int paramCount) {
+        TranslatedQueryKey key = new TranslatedQueryKey(kind, entityClass, panacheQuery, paramCount);
+        String translated = translatedQueries.get(key);
+        if (translated == null) {
+            translated = switch (kind) {
+                case FIND -> PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount);
+                case COUNT -> PanacheJpaUtil.createQueryForCount(entityClass, panacheQuery, paramCount);
+                case UPDATE -> PanacheJpaUtil.createUpdateQuery(entityClass, panacheQuery, paramCount);
+                case DELETE -> PanacheJpaUtil.createDeleteQuery(entityClass, panacheQuery, paramCount);
+            };
+            if (translatedQueries.size() < MAX_TRANSLATED_QUERIES) {
+                translatedQueries.putIfAbsent(key, translated);
+            }
+        }
+        return translated;
+    }
+
+    enum QueryKind {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    private record TranslatedQueryKey(QueryKind kind, Class<?> entityClass, String query, int paramCount) {
+    }
+
     public static IllegalStateException implementationInjectionMissing() {
         return new IllegalStateException(
                 "This method is normally automatically overridden in subclasses: did you forget to annotate your entity with @Entity?");
@@ -475,7 +623,7 @@ public int executeUpdate(Class<?> entityClass, String panacheQuery, Object... pa
         }
 
         try {
-            String updateQuery = PanacheJpaUtil.createUpdateQuery(entityClass, panacheQuery, paramCount(params));
+            String updateQuery = translateQuery(QueryKind.UPDATE, entityClass, panacheQuery, paramCount(params));
             return bindParameters(getSession(entityClass).createMutationQuery(updateQuery), params)
                     .executeUpdate();
         } catch (RuntimeException x) {
@@ -489,7 +637,7 @@ public int executeUpdate(Class<?> entityClass, String panacheQuery, Map<String,
         }
 
         try {
-            String updateQuery = PanacheJpaUtil.createUpdateQuery(entityClass, panacheQuery, paramCount(params));
+            String updateQuery = translateQuery(QueryKind.UPDATE, entityClass, panacheQuery, paramCount(params));
             return bindParameters(getSession(entityClass).createMutationQuery(updateQuery), params)
                     .executeUpdate();
         } catch (RuntimeException x) {
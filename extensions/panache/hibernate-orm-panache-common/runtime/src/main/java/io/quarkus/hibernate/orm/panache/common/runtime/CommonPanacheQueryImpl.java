@@ -25,6 +25,7 @@
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
@@ -35,6 +36,8 @@ private interface NonThrowingCloseable extends AutoCloseable {
         void close();
     }
 
+    private static final String SEEK_PARAMETER_PREFIX = "panacheSeekKey";
+
     private static final NonThrowingCloseable NO_FILTERS = new NonThrowingCloseable() {
         @Override
         public void close() {
@@ -64,6 +67,9 @@ public void close() {
 
     private Range range;
 
+    private Sort seekSort;
+    private Object[] seekKey;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -90,6 +96,8 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.seekSort = previousQuery.seekSort;
+        this.seekKey = previousQuery.seekKey;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -288,6 +296,30 @@ public void range(int startIndex, int lastIndex) {
         this.page = null;
     }
 
+    public void seek(Sort sort, Object... afterKey) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to use keyset pagination on a named query: " + query);
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a Sort with at least one column");
+        }
+        if (afterKey.length != 0 && afterKey.length != sort.getColumns().size()) {
+            throw new PanacheQueryException("The number of key values (" + afterKey.length
+                    + ") does not match the number of sort columns (" + sort.getColumns().size() + ")");
+        }
+        for (Object value : afterKey) {
+            // a null key value would compare as unknown, and match no row
+            if (value == null) {
+                throw new PanacheQueryException("Keyset pagination does not support null key values, "
+                        + "the key columns must not be nullable");
+            }
+        }
+        this.seekSort = sort;
+        this.seekKey = afterKey;
+        // the seek predicate changes the matching rows
+        this.count = null;
+    }
+
     public void withLock(LockModeType lockModeType) {
         this.lockModeType = lockModeType;
     }
@@ -409,8 +441,19 @@ private SelectionQuery createBaseQuery() {
             String namedQuery = query.substring(1);
             hibernateQuery = session.createNamedSelectionQuery(namedQuery, projectionType);
         } else {
+            String hqlQuery = query;
+            String hqlOrderBy = orderBy;
+            if (seekSort != null) {
+                // keyset pagination: the key columns define the order, and we only select rows following the key
+                hqlOrderBy = PanacheJpaUtil.toOrderBy(seekSort);
+                if (seekKey.length > 0) {
+                    hqlQuery = PanacheJpaUtil.addSeekPredicate(query,
+                            PanacheJpaUtil.toSeekPredicate(seekSort, seekParameters()));
+                }
+            }
             try {
-                hibernateQuery = session.createSelectionQuery(orderBy != null ? query + orderBy : query, projectionType);
+                hibernateQuery = session.createSelectionQuery(hqlOrderBy != null ? hqlQuery + hqlOrderBy : hqlQuery,
+                        projectionType);
             } catch (RuntimeException x) {
                 throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
             }
@@ -421,6 +464,9 @@ private SelectionQuery createBaseQuery() {
         } else {
             AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) paramsArrayOrMap);
         }
+        if (seekSort != null && seekKey.length > 0) {
+            bindSeekParameters(hibernateQuery);
+        }
 
         if (this.lockModeType != null) {
             hibernateQuery.setLockMode(lockModeType);
@@ -434,6 +480,35 @@ private SelectionQuery createBaseQuery() {
         return hibernateQuery;
     }
 
+    private String[] seekParameters() {
+        String[] parameters = new String[seekKey.length];
+        if (paramsArrayOrMap instanceof Map) {
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = ":" + SEEK_PARAMETER_PREFIX + i;
+            }
+        } else {
+            // positional parameters follow the ones of the query
+            int offset = paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = "?" + (offset + i + 1);
+            }
+        }
+        return parameters;
+    }
+
+    private void bindSeekParameters(SelectionQuery<?> hibernateQuery) {
+        if (paramsArrayOrMap instanceof Map) {
+            for (int i = 0; i < seekKey.length; i++) {
+                hibernateQuery.setParameter(SEEK_PARAMETER_PREFIX + i, seekKey[i]);
+            }
+        } else {
+            int offset = paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+            for (int i = 0; i < seekKey.length; i++) {
+                hibernateQuery.setParameter(offset + i + 1, seekKey[i]);
+            }
+        }
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
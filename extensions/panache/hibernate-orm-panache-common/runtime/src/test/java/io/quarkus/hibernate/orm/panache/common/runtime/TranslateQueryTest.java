@@ -0,0 +1,89 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations.QueryKind;
+
+class TranslateQueryTest {
+
+    @BeforeEach
+    void clearCache() {
+        AbstractJpaOperations.setEntityToPersistenceUnit(Map.of());
+    }
+
+    @Test
+    void cacheHit() {
+        String first = AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1);
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1", first);
+        assertSame(first, AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1));
+        // an equal query string built at runtime also hits the cache
+        String name = String.join("", "na", "me");
+        assertSame(first, AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, name, 1));
+    }
+
+    @Test
+    void differentEntityClasses() {
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1",
+                AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1));
+        assertEquals("FROM `" + Dog.class.getName() + "` WHERE name = ?1",
+                AbstractJpaOperations.translateQuery(QueryKind.FIND, Dog.class, "name", 1));
+    }
+
+    @Test
+    void differentParameterCounts() {
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1",
+                AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1));
+        // the shorthand "name = ?1" only applies to a single parameter
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name",
+                AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 0));
+    }
+
+    @Test
+    void differentQueryKinds() {
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1",
+                AbstractJpaOperations.translateQuery(QueryKind.COUNT, Person.class, "name", 1));
+        assertEquals("DELETE FROM `" + Person.class.getName() + "` WHERE name = ?1",
+                AbstractJpaOperations.translateQuery(QueryKind.DELETE, Person.class, "name", 1));
+        assertEquals("FROM `" + Person.class.getName() + "`",
+                AbstractJpaOperations.translateQuery(QueryKind.COUNT, Person.class, "order by name", 0));
+        assertEquals("FROM `" + Person.class.getName() + "` order by name",
+                AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "order by name", 0));
+    }
+
+    @Test
+    void clearedForNewApplication() {
+        String first = AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1);
+        AbstractJpaOperations.setEntityToPersistenceUnit(Map.of());
+        String second = AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void boundedSize() {
+        for (int i = 0; i < 2048; i++) {
+            AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "id = " + i, 0);
+        }
+        // still translated, but no longer cached
+        String first = AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1);
+        String second = AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "name", 1);
+        assertEquals("FROM `" + Person.class.getName() + "` WHERE name = ?1", second);
+        assertNotSame(first, second);
+        // queries cached before the limit was reached are still hits
+        assertSame(AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "id = 0", 0),
+                AbstractJpaOperations.translateQuery(QueryKind.FIND, Person.class, "id = 0", 0));
+    }
+
+    static class Person {
+    }
+
+    static class Dog {
+    }
+}
@@ -2,6 +2,7 @@
 
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
+import io.quarkus.panache.common.Sort
 import jakarta.persistence.LockModeType
 import jakarta.persistence.NonUniqueResultException
 import java.util.stream.Stream
@@ -133,6 +134,19 @@ fun page(): Page
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switch the query to keyset pagination: results are ordered by the given key columns, and only
+     * the results strictly following the given key are returned. The key columns must uniquely
+     * identify a result, and the key values are typically those of the last result of the previous
+     * page. Use no key values to read the first page, and combine with `page(0, size)` to limit the
+     * number of results.
+     *
+     * @param keySort the key columns, in order
+     * @param afterKey the key values to start after, one per key column, or none to read from the start
+     * @return this query, modified
+     */
+    fun seek(keySort: Sort, vararg afterKey: Any): PanacheQuery<Entity>
+
     /**
      * Define the locking strategy used for this query.
      *
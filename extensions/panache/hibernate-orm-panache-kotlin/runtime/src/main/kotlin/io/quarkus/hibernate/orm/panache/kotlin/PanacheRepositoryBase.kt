@@ -550,6 +550,54 @@ fun persist(entities: Stream<Entity>) {
         INSTANCE.persist(entities)
     }
 
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context. The
+     * entities are not attached to the current session, so the memory used does not grow with the
+     * number of entities. Cascading rules, lifecycle callbacks and the second-level cache are
+     * ignored. The current session is flushed first. Inserts are sent in JDBC batches of
+     * `quarkus.hibernate-orm.jdbc.statement-batch-size` entities, or 50 if it is not set.
+     *
+     * @param entities the entities to insert
+     */
+    fun insertAll(entities: Iterable<Entity>) {
+        INSTANCE.insertAll(entities)
+    }
+
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context, in
+     * JDBC batches of the given size.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities inserted in a single JDBC batch, strictly positive
+     */
+    fun insertAll(entities: Iterable<Entity>, batchSize: Int) {
+        INSTANCE.insertAll(entities, batchSize)
+    }
+
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context. The
+     * entities are not attached to the current session, so the memory used does not grow with the
+     * number of entities. Cascading rules, lifecycle callbacks and the second-level cache are
+     * ignored. The current session is flushed first. Inserts are sent in JDBC batches of
+     * `quarkus.hibernate-orm.jdbc.statement-batch-size` entities, or 50 if it is not set.
+     *
+     * @param entities the entities to insert
+     */
+    fun insertAll(entities: Stream<Entity>) {
+        INSTANCE.insertAll(entities)
+    }
+
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context, in
+     * JDBC batches of the given size.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities inserted in a single JDBC batch, strictly positive
+     */
+    fun insertAll(entities: Stream<Entity>, batchSize: Int) {
+        INSTANCE.insertAll(entities, batchSize)
+    }
+
     /**
      * Persist all given entities.
      *
@@ -4,6 +4,7 @@
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
+import io.quarkus.panache.common.Sort
 import jakarta.persistence.LockModeType
 import java.util.stream.Stream
 import org.hibernate.Session
@@ -82,6 +83,11 @@ override fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity> {
         return this
     }
 
+    override fun seek(keySort: Sort, vararg afterKey: Any): PanacheQuery<Entity> {
+        delegate.seek(keySort, *afterKey)
+        return this
+    }
+
     override fun withLock(lockModeType: LockModeType): PanacheQuery<Entity> {
         delegate.withLock(lockModeType)
         return this
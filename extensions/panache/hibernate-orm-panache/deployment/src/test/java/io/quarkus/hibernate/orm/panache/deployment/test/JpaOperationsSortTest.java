@@ -75,4 +75,44 @@ public void testSortByDisabledEscaping() {
         Sort sort1 = Sort.by("foo.`bar`").disableEscaping();
         assertEquals(" ORDER BY foo.`bar`", PanacheJpaUtil.toOrderBy(sort1));
     }
+
+    @Test
+    public void testSeekPredicate() {
+        Sort sort = Sort.by("foo").and("bar", Sort.Direction.Descending);
+        assertEquals("(`foo` > ?2) OR (`foo` = ?2 AND `bar` < ?3)",
+                PanacheJpaUtil.toSeekPredicate(sort, new String[] { "?2", "?3" }));
+        Assertions.assertThrowsExactly(PanacheQueryException.class,
+                () -> PanacheJpaUtil.toSeekPredicate(sort, new String[] { "?1" }));
+    }
+
+    @Test
+    public void testAddSeekPredicate() {
+        assertEquals("FROM Foo WHERE (a = ?1 OR b = ?2) AND (`foo` > ?3)",
+                PanacheJpaUtil.addSeekPredicate("FROM Foo WHERE a = ?1 OR b = ?2", "`foo` > ?3"));
+        assertEquals("FROM Foo WHERE `foo` > ?1", PanacheJpaUtil.addSeekPredicate("FROM Foo", "`foo` > ?1"));
+        Assertions.assertThrowsExactly(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addSeekPredicate("FROM Foo WHERE a = ?1 ORDER BY b", "`foo` > ?2"));
+    }
+
+    @Test
+    public void testAddSeekPredicateWithSubqueries() {
+        assertEquals("SELECT (SELECT max(b.x) FROM Bar b WHERE b.foo = f) FROM Foo f WHERE (a = ?1) AND (`foo` > ?2)",
+                PanacheJpaUtil.addSeekPredicate(
+                        "SELECT (SELECT max(b.x) FROM Bar b WHERE b.foo = f) FROM Foo f WHERE a = ?1", "`foo` > ?2"));
+        assertEquals("FROM Foo f WHERE `foo` > ?1",
+                PanacheJpaUtil.addSeekPredicate("FROM Foo f", "`foo` > ?1"));
+        assertEquals(
+                "FROM Foo f WHERE (f.id IN (SELECT b.foo.id FROM Bar b WHERE b.x = 'where' ORDER BY b.x)) AND (`foo` > ?1)",
+                PanacheJpaUtil.addSeekPredicate(
+                        "FROM Foo f WHERE f.id IN (SELECT b.foo.id FROM Bar b WHERE b.x = 'where' ORDER BY b.x)",
+                        "`foo` > ?1"));
+        assertEquals("FROM Foo f WHERE (f.id IN (SELECT b.foo.id FROM Bar b GROUP BY b.foo.id)) AND (`foo` > ?1)",
+                PanacheJpaUtil.addSeekPredicate("FROM Foo f WHERE f.id IN (SELECT b.foo.id FROM Bar b GROUP BY b.foo.id)",
+                        "`foo` > ?1"));
+        assertEquals("FROM Foo f WHERE (f.name = ' order by ') AND (`foo` > ?1)",
+                PanacheJpaUtil.addSeekPredicate("FROM Foo f WHERE f.name = ' order by '", "`foo` > ?1"));
+        Assertions.assertThrowsExactly(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addSeekPredicate("FROM Foo f WHERE f.id IN (SELECT b.foo.id FROM Bar b)\nGROUP BY f.a",
+                        "`foo` > ?1"));
+    }
 }
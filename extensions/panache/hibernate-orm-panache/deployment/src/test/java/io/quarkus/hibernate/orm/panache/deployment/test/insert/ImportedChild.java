@@ -0,0 +1,23 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.insert;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToOne;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class ImportedChild extends PanacheEntity {
+
+    public String name;
+
+    @ManyToOne(optional = false)
+    public ImportedParent parent;
+
+    public ImportedChild() {
+    }
+
+    public ImportedChild(String name, ImportedParent parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+}
@@ -0,0 +1,9 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.insert;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+
+@ApplicationScoped
+public class ImportedChildRepository implements PanacheRepository<ImportedChild> {
+}
@@ -0,0 +1,11 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.insert;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class ImportedParent extends PanacheEntity {
+
+    public String name;
+}
@@ -0,0 +1,119 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InsertAllTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(ImportedParent.class, ImportedChild.class, ImportedChildRepository.class))
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "10")
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Inject
+    ImportedChildRepository repository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @BeforeEach
+    @Transactional
+    void clean() {
+        ImportedChild.deleteAll();
+        ImportedParent.deleteAll();
+    }
+
+    @Test
+    @Transactional
+    void entityInsertAll() {
+        // the parent is only pending in the persistence context: it must be flushed before the children
+        ImportedParent parent = new ImportedParent();
+        parent.name = "parent";
+        parent.persist();
+
+        List<ImportedChild> children = IntStream.range(0, 25)
+                .mapToObj(i -> new ImportedChild("child" + i, parent))
+                .toList();
+        ImportedChild.insertAll(children);
+
+        assertThat(children).allSatisfy(child -> {
+            assertThat(child.id).isNotNull();
+            assertThat(child.isPersistent()).isFalse();
+        });
+        assertThat(ImportedChild.count("parent", parent)).isEqualTo(25);
+    }
+
+    @Test
+    @Transactional
+    void entityInsertAllStream() {
+        ImportedParent parent = new ImportedParent();
+        parent.name = "parent";
+        parent.persist();
+
+        ImportedChild.insertAll(IntStream.range(0, 5).mapToObj(i -> new ImportedChild("child" + i, parent)));
+
+        assertThat(ImportedChild.count()).isEqualTo(5);
+    }
+
+    @Test
+    @Transactional
+    void repositoryInsertAll() {
+        ImportedParent parent = new ImportedParent();
+        parent.name = "parent";
+        parent.persist();
+
+        List<ImportedChild> children = List.of(new ImportedChild("first", parent), new ImportedChild("second", parent));
+        repository.insertAll(children);
+        repository.insertAll(IntStream.range(0, 3).mapToObj(i -> new ImportedChild("child" + i, parent)));
+
+        assertThat(children).noneMatch(repository::isPersistent);
+        assertThat(repository.count()).isEqualTo(5);
+        assertThat(repository.find("name", "second").firstResult().parent.id).isEqualTo(parent.id);
+    }
+
+    @Test
+    @Transactional
+    void insertAllSendsBatches() {
+        ImportedParent parent = new ImportedParent();
+        parent.name = "parent";
+        parent.persist();
+        ImportedParent.flush();
+
+        // 25 entities with a statement batch size of 10: 3 batches, and possibly a call to the id sequence
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        ImportedChild.insertAll(IntStream.range(0, 25).mapToObj(i -> new ImportedChild("child" + i, parent)));
+        assertThat(statistics.getPrepareStatementCount()).isBetween(3L, 4L);
+
+        // an explicit batch size takes precedence over the statement batch size
+        statistics.clear();
+        repository.insertAll(IntStream.range(0, 25).mapToObj(i -> new ImportedChild("other" + i, parent)).toList(), 25);
+        assertThat(statistics.getPrepareStatementCount()).isBetween(1L, 2L);
+
+        assertThat(ImportedChild.count()).isEqualTo(50);
+    }
+
+    @Test
+    void insertAllRejectsInvalidBatchSize() {
+        assertThatThrownBy(() -> ImportedChild.insertAll(List.of(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batch size");
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.seek;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class SeekEntity extends PanacheEntity {
+
+    public String name;
+
+    public int score;
+
+    public SeekEntity() {
+    }
+
+    public SeekEntity(String name, int score) {
+        this.name = name;
+        this.score = score;
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SeekTest {
+
+    private static final Sort KEY = Sort.by("name").and("id");
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(SeekEntity.class));
+
+    @BeforeEach
+    @Transactional
+    void createEntities() {
+        SeekEntity.deleteAll();
+        // two entities share a name, so that the id is needed to order them
+        for (String name : List.of("e", "b", "d", "a", "c", "c")) {
+            new SeekEntity(name, name.charAt(0) - 'a').persist();
+        }
+    }
+
+    @Test
+    @Transactional
+    void seekPages() {
+        List<SeekEntity> page = SeekEntity.<SeekEntity> findAll().seek(KEY).page(0, 4).list();
+        assertThat(page).extracting(e -> e.name).containsExactly("a", "b", "c", "c");
+
+        SeekEntity last = page.get(2);
+        page = SeekEntity.<SeekEntity> findAll().seek(KEY, last.name, last.id).page(0, 4).list();
+        assertThat(page).extracting(e -> e.name).containsExactly("c", "d", "e");
+        assertThat(page.get(0).id).isGreaterThan(last.id);
+    }
+
+    @Test
+    @Transactional
+    void seekDescending() {
+        Sort key = Sort.by("name", Sort.Direction.Descending).and("id", Sort.Direction.Descending);
+        SeekEntity c = SeekEntity.<SeekEntity> find("name", Sort.by("id"), "c").firstResult();
+        List<SeekEntity> page = SeekEntity.<SeekEntity> findAll().seek(key, c.name, c.id).list();
+        assertThat(page).extracting(e -> e.name).containsExactly("b", "a");
+    }
+
+    @Test
+    @Transactional
+    void seekWithWhereClauseAndSubquery() {
+        SeekEntity b = SeekEntity.find("name", "b").firstResult();
+        // the subquery has its own where clause, the seek predicate must go to the outer one
+        PanacheQuery<SeekEntity> query = SeekEntity.find(
+                "score < (select max(o.score) from SeekEntity o where o.name <> :excluded) and name <> :excluded",
+                Parameters.with("excluded", "e"));
+        List<SeekEntity> page = query.seek(KEY, b.name, b.id).list();
+        assertThat(page).extracting(e -> e.name).containsExactly("c", "c");
+    }
+
+    @Test
+    @Transactional
+    void seekResetsCount() {
+        PanacheQuery<SeekEntity> query = SeekEntity.findAll();
+        assertThat(query.count()).isEqualTo(6);
+        SeekEntity c = SeekEntity.<SeekEntity> find("name", Sort.by("id").descending(), "c").firstResult();
+        query.seek(KEY, c.name, c.id);
+        assertThat(query.count()).isEqualTo(2);
+        assertThat(query.list()).extracting(e -> e.name).containsExactly("d", "e");
+    }
+
+    @Test
+    @Transactional
+    void seekRejectsNullKeys() {
+        assertThrows(PanacheQueryException.class, () -> SeekEntity.findAll().seek(KEY, null, 1L));
+    }
+}
@@ -755,6 +755,76 @@ public static void persist(Stream<?> entities) {
         JpaOperations.INSTANCE.persist(entities);
     }
 
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context.
+     * <p>
+     * This is meant for bulk imports: unlike {@link #persist(Iterable)}, the entities are not attached to the current
+     * session, so the memory used does not grow with the number of entities, and there is no dirty-checking on flush.
+     * Inserts are sent in JDBC batches of {@code quarkus.hibernate-orm.jdbc.statement-batch-size} entities, or 50 if it is
+     * not set.
+     * <p>
+     * WARNING: this uses a {@link org.hibernate.StatelessSession}: cascading rules, lifecycle callbacks and the second-level
+     * cache are ignored, and the entities must not be persistent already. The current session is flushed first, so that
+     * the inserted entities can reference entities persisted but not flushed yet.
+     *
+     * @param entities the entities to insert
+     * @see #persist(Iterable)
+     * @see #insertAll(Stream)
+     * @see #insertAll(Iterable, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertAll(Iterable<?> entities) {
+        JpaOperations.INSTANCE.insertAll(entities);
+    }
+
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context, in JDBC batches of the
+     * given size.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities inserted in a single JDBC batch, strictly positive
+     * @see #insertAll(Iterable)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertAll(Iterable<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.insertAll(entities, batchSize);
+    }
+
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context.
+     * <p>
+     * This is meant for bulk imports: unlike {@link #persist(Stream)}, the entities are not attached to the current
+     * session, so the memory used does not grow with the number of entities, and there is no dirty-checking on flush.
+     * Inserts are sent in JDBC batches of {@code quarkus.hibernate-orm.jdbc.statement-batch-size} entities, or 50 if it is
+     * not set.
+     * <p>
+     * WARNING: this uses a {@link org.hibernate.StatelessSession}: cascading rules, lifecycle callbacks and the second-level
+     * cache are ignored, and the entities must not be persistent already. The current session is flushed first, so that
+     * the inserted entities can reference entities persisted but not flushed yet.
+     *
+     * @param entities the entities to insert
+     * @see #persist(Stream)
+     * @see #insertAll(Iterable)
+     * @see #insertAll(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertAll(Stream<?> entities) {
+        JpaOperations.INSTANCE.insertAll(entities);
+    }
+
+    /**
+     * Insert all given entities directly in the database, bypassing the persistence context, in JDBC batches of the
+     * given size.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the number of entities inserted in a single JDBC batch, strictly positive
+     * @see #insertAll(Stream)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertAll(Stream<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.insertAll(entities, batchSize);
+    }
+
     /**
      * Persist all given entities.
      *
@@ -15,6 +15,7 @@
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 
 /**
@@ -167,6 +168,35 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to keyset pagination, also known as seek pagination: results are ordered by the given
+     * key columns, and only the results strictly following the given key are returned. Unlike offset based pages,
+     * the database does not need to read and skip the previous results, so every page costs the same provided
+     * the key columns are indexed.
+     * <p>
+     * The key columns must uniquely identify a result, e.g. end with the identifier, and the key values are typically
+     * those of the last result of the previous page. Use no key values to read the first page, and combine with
+     * {@link #page(int, int) page(0, size)} to limit the number of results:
+     *
+     * <pre>
+     * Sort key = Sort.by("lastName").and("id");
+     * List&lt;Person&gt; page = Person.find("status", Status.Alive).seek(key).page(0, 20).list();
+     * Person last = page.get(page.size() - 1);
+     * page = Person.find("status", Status.Alive).seek(key, last.lastName, last.id).page(0, 20).list();
+     * </pre>
+     * <p>
+     * The sort passed to the query, if any, is replaced by the key sort. Keyset pagination is not supported
+     * with named queries and queries containing their own <code>order by</code> or <code>group by</code> clause,
+     * outside of subqueries. Key values cannot be null, so the key columns should not be nullable.
+     *
+     * @param keySort the key columns, in order
+     * @param afterKey the key values to start after, one per key column, or none to read from the start
+     * @return this query, modified
+     * @throws PanacheQueryException if the query does not support keyset pagination, a key value is null, or the number
+     *         of key values does not match the key columns
+     */
+    public <T extends Entity> PanacheQuery<T> seek(Sort keySort, Object... afterKey);
+
     /**
      * Define the locking strategy used for this query.
      *
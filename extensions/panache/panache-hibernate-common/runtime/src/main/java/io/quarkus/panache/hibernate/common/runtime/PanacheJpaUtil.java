@@ -158,6 +158,113 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
+    /**
+     * Builds a keyset pagination predicate matching the rows strictly following a key, according to the given sort.
+     * For instance, a sort on {@code a, b DESC} results in {@code (a > ?1) OR (a = ?1 AND b < ?2)}.
+     *
+     * @param sort the sort defining the key columns and their order
+     * @param parameters the parameter placeholders of the key values, one per sort column
+     */
+    public static String toSeekPredicate(Sort sort, String[] parameters) {
+        if (sort.getColumns().size() != parameters.length) {
+            throw new PanacheQueryException("The number of key values (" + parameters.length
+                    + ") does not match the number of sort columns (" + sort.getColumns().size() + ")");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parameters.length; i++) {
+            if (i > 0)
+                sb.append(" OR ");
+            sb.append('(');
+            for (int j = 0; j <= i; j++) {
+                Sort.Column column = sort.getColumns().get(j);
+                if (j > 0)
+                    sb.append(" AND ");
+                if (sort.isEscapingEnabled()) {
+                    sb.append(escapeColumnName(column.getName()));
+                } else {
+                    sb.append(column.getName());
+                }
+                if (j < i) {
+                    sb.append(" = ");
+                } else if (column.getDirection() == Sort.Direction.Ascending) {
+                    sb.append(" > ");
+                } else {
+                    sb.append(" < ");
+                }
+                sb.append(parameters[j]);
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds a predicate to the outer where clause of the given HQL query, or adds a where clause if there is none.
+     * Where, order by and group by clauses of subqueries are left untouched.
+     */
+    public static String addSeekPredicate(String query, String predicate) {
+        if (trimForAnalysis(query).startsWith("with ")
+                || indexOfOuterClause(query, "order", "by") != -1
+                || indexOfOuterClause(query, "group", "by") != -1) {
+            throw new PanacheQueryException("Unable to use keyset pagination on a query with a 'with', 'order by' "
+                    + "or 'group by' clause, use a Sort instead of an 'order by' clause: " + query);
+        }
+        int where = indexOfOuterClause(query, "where");
+        if (where != -1) {
+            return query.substring(0, where) + "(" + query.substring(where) + ") AND (" + predicate + ")";
+        }
+        return query + " WHERE " + predicate;
+    }
+
+    /**
+     * Finds a clause made of the given keywords at the outer level of a query, i.e. neither in a subquery nor in a
+     * quoted string or identifier.
+     *
+     * @return the index following the clause keywords and the whitespace after them, or -1 if there is no such clause
+     */
+    static int indexOfOuterClause(String query, String... keywords) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                // a doubled quote escapes it: it closes then reopens the string
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && i > 0 && Character.isWhitespace(query.charAt(i - 1))) {
+                int end = matchKeywords(query, i, keywords);
+                if (end != -1) {
+                    return end;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int matchKeywords(String query, int start, String[] keywords) {
+        int i = start;
+        for (String keyword : keywords) {
+            if (!query.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return -1;
+            }
+            i += keyword.length();
+            if (i >= query.length() || !Character.isWhitespace(query.charAt(i))) {
+                return -1;
+            }
+            while (i < query.length() && Character.isWhitespace(query.charAt(i))) {
+                i++;
+            }
+        }
+        return i;
+    }
+
     public static String toOrderBy(Sort sort) {
         if (sort == null) {
             return null;
@@ -0,0 +1,43 @@
+package io.quarkus.quartz.deployment;
+
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
+
+import java.util.Optional;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.quartz.runtime.QuartzBuildTimeConfig;
+import io.quarkus.quartz.runtime.metrics.QuartzMetricsRecorder;
+import io.quarkus.quartz.runtime.metrics.QuartzTriggerMetrics;
+
+/**
+ * Produce metrics for Quartz
+ * Avoid hard dependencies in main processor
+ */
+public class QuartzMetricsProcessor {
+
+    @BuildStep
+    void metricsBean(QuartzBuildTimeConfig config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (config.metricsEnabled() && metricsCapability.isPresent()) {
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(QuartzTriggerMetrics.class));
+        }
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void metrics(QuartzBuildTimeConfig config,
+            QuartzMetricsRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        // The consumer is only invoked if a metrics extension is enabled
+        if (config.metricsEnabled() && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+}
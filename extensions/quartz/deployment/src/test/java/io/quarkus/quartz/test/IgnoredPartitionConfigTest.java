@@ -0,0 +1,49 @@
+package io.quarkus.quartz.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class IgnoredPartitionConfigTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.partition.count", "3")
+            .overrideConfigKey("quarkus.scheduler.partition.index", "1")
+            .setLogRecordPredicate(record -> record.getLevel().intValue() == Level.WARNING.intValue()
+                    && record.getMessage().contains("quarkus.scheduler.partition"))
+            .assertLogRecords(records -> assertThat(records)
+                    .extracting(LogRecord::getMessage)
+                    .hasSize(1)
+                    .allMatch(message -> message.contains("ignored by the Quartz scheduler")));
+
+    @Test
+    public void testJobsAreNotPartitioned() throws InterruptedException {
+        // the partition configuration is ignored, so the job runs whatever its partition would be
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(1);
+
+        @Scheduled(every = "1s", identity = "remote-job")
+        void ping() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
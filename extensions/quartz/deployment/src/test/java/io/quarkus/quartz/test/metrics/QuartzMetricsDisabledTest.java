@@ -0,0 +1,37 @@
+package io.quarkus.quartz.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.quartz.runtime.metrics.QuartzTriggerMetrics;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QuartzMetricsDisabledTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    void testNoTriggerMetrics() throws InterruptedException {
+        assertTrue(Jobs.latch01.await(5, TimeUnit.SECONDS));
+        assertFalse(Arc.container().instance(QuartzTriggerMetrics.class).isAvailable());
+        assertTrue(metricRegistry.getMetrics((id, metric) -> id.getName().startsWith("quartz.")).isEmpty());
+    }
+
+}
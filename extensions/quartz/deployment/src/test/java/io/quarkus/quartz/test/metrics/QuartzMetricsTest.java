@@ -0,0 +1,70 @@
+package io.quarkus.quartz.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QuartzMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TriggeredJobs.class)
+                    .addAsResource(new StringAsset("quarkus.quartz.metrics.enabled=true\n"
+                            + "quarkus.quartz.instance-name=metrics-scheduler"),
+                            "application.properties"));
+
+    private static final Tag SCHEDULER_TAG = new Tag("scheduler", "metrics-scheduler");
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Test
+    void testTriggerMetrics() throws InterruptedException {
+        assertTrue(TriggeredJobs.LATCH.await(5, TimeUnit.SECONDS));
+
+        Counter fired = metricRegistry.getCounters().get(new MetricID("quartz.triggers.fired", SCHEDULER_TAG));
+        assertNotNull(fired);
+        assertTrue(fired.getCount() >= 2, "Unexpected fired count: " + fired.getCount());
+
+        // the job never misses its fire time by more than the default misfire threshold
+        Counter misfired = metricRegistry.getCounters().get(new MetricID("quartz.triggers.misfired", SCHEDULER_TAG));
+        assertNotNull(misfired);
+        assertEquals(0, misfired.getCount());
+
+        SimpleTimer fireDelay = metricRegistry.getSimpleTimers()
+                .get(new MetricID("quartz.triggers.fire.delay", SCHEDULER_TAG));
+        assertNotNull(fireDelay);
+        assertTrue(fireDelay.getCount() >= 2, "Unexpected fire delay count: " + fireDelay.getCount());
+    }
+
+    static class TriggeredJobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+            LATCH.countDown();
+        }
+    }
+
+}
@@ -129,6 +129,19 @@ public interface QuartzBuildTimeConfig {
     @WithDefault("false")
     boolean serializeJobData();
 
+    /**
+     * Whether or not the number of fired and misfired triggers and the trigger fire delay should be published if a metrics
+     * extension is enabled.
+     * <p>
+     * The fire delay, i.e. the difference between the actual and the scheduled fire time, includes the time needed to
+     * acquire the trigger from the job store and can be used to tune
+     * {@code quarkus.quartz.batch-trigger-acquisition-max-count} and
+     * {@code quarkus.quartz.batch-trigger-acquisition-fire-ahead-time-window}.
+     */
+    @WithName("metrics.enabled")
+    @WithDefault("false")
+    boolean metricsEnabled();
+
     /**
      * Instance ID generators.
      */
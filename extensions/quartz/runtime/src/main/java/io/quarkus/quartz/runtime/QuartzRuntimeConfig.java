@@ -40,6 +40,9 @@ public interface QuartzRuntimeConfig {
 
     /**
      * The maximum number of triggers that a scheduler node is allowed to acquire (for firing) at once.
+     * <p>
+     * A value greater than 1 reduces the number of job store locks needed to fire a large number of triggers. Note that
+     * Quartz never acquires more triggers than the number of available threads, see {@code quarkus.quartz.thread-count}.
      */
     @WithDefault("1")
     int batchTriggerAcquisitionMaxCount();
@@ -65,6 +65,7 @@
 import io.quarkus.arc.Subclass;
 import io.quarkus.quartz.Nonconcurrent;
 import io.quarkus.quartz.QuartzScheduler;
+import io.quarkus.quartz.runtime.metrics.QuartzTriggerMetrics;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.DelayedExecution;
 import io.quarkus.scheduler.FailedExecution;
@@ -125,7 +126,7 @@ public QuartzSchedulerImpl(SchedulerContext context, QuartzSupport quartzSupport
             Event<ScheduledJobResumed> scheduledJobResumedEvent,
             Instance<Job> jobs, Instance<UserTransaction> userTransaction,
             Vertx vertx, SchedulerConfig schedulerConfig, Instance<JobInstrumenter> jobInstrumenter,
-            ScheduledExecutorService blockingExecutor) {
+            ScheduledExecutorService blockingExecutor, Instance<QuartzTriggerMetrics> triggerMetrics) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -146,6 +147,12 @@ public QuartzSchedulerImpl(SchedulerContext context, QuartzSupport quartzSupport
             forceStart = false;
         }
 
+        if (schedulerRuntimeConfig.partition().count() > 1) {
+            LOGGER.warn("The quarkus.scheduler.partition.* configuration only applies to the simple scheduler and is ignored "
+                    + "by the Quartz scheduler, which executes all its jobs on every instance unless a clustered job store "
+                    + "is used");
+        }
+
         var simpleTriggerConfig = runtimeConfig.simpleTriggerConfig();
         var cronTriggerConfig = runtimeConfig.cronTriggerConfig();
         if (!QuartzMisfirePolicy.validCronValues().contains(cronTriggerConfig.misfirePolicyConfig().misfirePolicy())) {
@@ -192,6 +199,11 @@ public QuartzSchedulerImpl(SchedulerContext context, QuartzSupport quartzSupport
                 scheduler.setJobFactory(
                         new InvokerJobFactory(scheduledTasks, jobs, vertx, instrumenter));
 
+                if (triggerMetrics.isResolvable()) {
+                    // The bean is only registered if metrics are enabled
+                    scheduler.getListenerManager().addTriggerListener(triggerMetrics.get());
+                }
+
                 if (transaction != null) {
                     transaction.begin();
                 }
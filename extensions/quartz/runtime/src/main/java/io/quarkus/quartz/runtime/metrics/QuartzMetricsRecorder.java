@@ -0,0 +1,41 @@
+package io.quarkus.quartz.runtime.metrics;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.quartz.runtime.QuartzSupport;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * This recorder is invoked IFF Quartz metrics are enabled
+ */
+@Recorder
+public class QuartzMetricsRecorder {
+
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                QuartzTriggerMetrics metrics = Arc.container().instance(QuartzTriggerMetrics.class).get();
+                String instanceName = Arc.container().instance(QuartzSupport.class).get().getRuntimeConfig().instanceName();
+                metricsFactory.builder("quartz.triggers.fired")
+                        .description("The number of triggers fired by this scheduler instance")
+                        .tag("scheduler", instanceName)
+                        .buildCounter(metrics, QuartzTriggerMetrics::getFiredCount);
+                metricsFactory.builder("quartz.triggers.misfired")
+                        .description("The number of triggers that misfired, i.e. missed their fire time by more than "
+                                + "quarkus.quartz.misfire-threshold")
+                        .tag("scheduler", instanceName)
+                        .buildCounter(metrics, QuartzTriggerMetrics::getMisfiredCount);
+                metrics.setFireDelayRecorder(metricsFactory.builder("quartz.triggers.fire.delay")
+                        .description("The difference between the actual and the scheduled fire time of a trigger, "
+                                + "including the time needed to acquire the trigger")
+                        .tag("scheduler", instanceName)
+                        .buildTimer());
+            }
+        };
+    }
+
+}
@@ -0,0 +1,70 @@
+package io.quarkus.quartz.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Singleton;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Trigger listener that collects the data for the Quartz metrics.
+ * <p>
+ * The fire delay, i.e. the difference between the actual fire time and the scheduled fire time, includes the time needed to
+ * acquire the trigger from the job store.
+ */
+@Singleton
+public class QuartzTriggerMetrics implements TriggerListener {
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder misfired = new LongAdder();
+    private volatile TimeRecorder fireDelay;
+
+    @Override
+    public String getName() {
+        return QuartzTriggerMetrics.class.getName();
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        fired.increment();
+        TimeRecorder recorder = fireDelay;
+        if (recorder != null && context.getScheduledFireTime() != null && context.getFireTime() != null) {
+            recorder.update(context.getFireTime().getTime() - context.getScheduledFireTime().getTime(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        misfired.increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+            CompletedExecutionInstruction triggerInstructionCode) {
+    }
+
+    long getFiredCount() {
+        return fired.sum();
+    }
+
+    long getMisfiredCount() {
+        return misfired.sum();
+    }
+
+    void setFireDelayRecorder(TimeRecorder fireDelay) {
+        this.fireDelay = fireDelay;
+    }
+
+}
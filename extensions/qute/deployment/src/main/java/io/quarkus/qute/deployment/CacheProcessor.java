@@ -8,14 +8,16 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.qute.runtime.QuteConfig;
 import io.quarkus.qute.runtime.cache.CacheConfigurator;
 import io.quarkus.qute.runtime.cache.MissingCacheConfigurator;
+import io.quarkus.qute.runtime.cache.RemoteCacheConfigurator;
 import io.quarkus.qute.runtime.cache.UnsupportedRemoteCacheConfigurator;
 
 public class CacheProcessor {
 
     @BuildStep
-    void initialize(Optional<CacheTypeBuildItem> cacheTypeBuildItem,
+    void initialize(Optional<CacheTypeBuildItem> cacheTypeBuildItem, QuteConfig config,
             BuildProducer<AdditionalBeanBuildItem> beans,
             BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
         Class configuratorClass;
@@ -24,8 +26,14 @@ void initialize(Optional<CacheTypeBuildItem> cacheTypeBuildItem,
             configuratorClass = MissingCacheConfigurator.class;
         } else {
             CacheTypeBuildItem.Type type = cacheTypeBuildItem.get().getType();
-            if (type != CacheTypeBuildItem.Type.LOCAL) { // it does not make sense to use a remote cache for Qute
-                configuratorClass = UnsupportedRemoteCacheConfigurator.class;
+            if (type != CacheTypeBuildItem.Type.LOCAL) {
+                if (config.remoteCacheEnabled()) {
+                    // The rendered content is stored as a string so that it can be shared across application instances
+                    configuratorClass = RemoteCacheConfigurator.class;
+                    supported = true;
+                } else {
+                    configuratorClass = UnsupportedRemoteCacheConfigurator.class;
+                }
             } else {
                 configuratorClass = CacheConfigurator.class;
                 supported = true;
@@ -0,0 +1,42 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.runtime.cache.RemoteCacheConfigurator;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RemoteCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("{#cached}{#for item in items}<{item}>{/for}{/cached}::{name}"),
+                            "templates/foo.txt"))
+            // any cache type other than caffeine is a remote one; the cache is disabled so that
+            // the no-op backend is used and the test does not need a remote server
+            .overrideConfigKey("quarkus.cache.type", "test-remote")
+            .overrideConfigKey("quarkus.cache.enabled", "false")
+            .overrideConfigKey("quarkus.qute.remote-cache-enabled", "true");
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testCachedSectionRenderedAsString() {
+        assertTrue(Arc.container().instance(RemoteCacheConfigurator.class).isAvailable());
+        assertEquals("<a><b><c>::foo", foo.data("items", List.of("a", "b", "c"), "name", "foo").render());
+        assertEquals("<d>::bar", foo.data("items", List.of("d"), "name", "bar").render());
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class UnsupportedRemoteCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("{#cached}{name}{/cached}"), "templates/foo.txt"))
+            .overrideConfigKey("quarkus.cache.type", "test-remote")
+            .overrideConfigKey("quarkus.cache.enabled", "false");
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testCachedSectionFailsWithoutRemoteCacheEnabled() {
+        Throwable e = assertThrows(RuntimeException.class, () -> foo.data("name", "foo").render());
+        while (!(e instanceof IllegalStateException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        assertEquals("#cache is not supported for remote caches", e.getMessage());
+    }
+
+}
@@ -95,6 +95,16 @@ public interface QuteConfig {
     @WithDefault("PRIORITIZE")
     DuplicitTemplatesStrategy duplicitTemplatesStrategy();
 
+    /**
+     * If set to {@code true} then the {@code #cached} section is also supported if a remote cache backend, such as Redis, is
+     * used. In this case, the rendered content of a section is stored as a {@link String}. Note that the value type of the
+     * {@code qute-cache} must be configured accordingly, e.g. {@code quarkus.cache.redis."qute-cache".value-type=java.lang.String}.
+     * <p>
+     * By default, the {@code #cached} section fails if a remote cache backend is used.
+     */
+    @WithDefault("false")
+    boolean remoteCacheEnabled();
+
     /**
      * Development mode configuration.
      */
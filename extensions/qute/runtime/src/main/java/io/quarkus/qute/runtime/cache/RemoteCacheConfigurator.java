@@ -0,0 +1,45 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import jakarta.enterprise.event.Observes;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.SingleResultNode;
+import io.quarkus.qute.cache.QuteCache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Unlike {@link CacheConfigurator} the rendered content is stored as a {@link String} so that it can be serialized and
+ * shared by multiple application instances.
+ */
+public class RemoteCacheConfigurator {
+
+    @CacheName(QuteCache.NAME)
+    Cache cache;
+
+    void configureEngine(@Observes EngineBuilder builder) {
+        builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.Cache() {
+
+            @Override
+            public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
+                return cache.<String, String> getAsync(key,
+                        k -> Uni.createFrom().completionStage(loader.apply(k)).map(RemoteCacheConfigurator::render))
+                        .<ResultNode> map(SingleResultNode::new)
+                        .subscribeAsCompletionStage();
+            }
+        }));
+    }
+
+    private static String render(ResultNode resultNode) {
+        StringBuilder sb = new StringBuilder();
+        resultNode.process(sb::append);
+        return sb.toString();
+    }
+
+}
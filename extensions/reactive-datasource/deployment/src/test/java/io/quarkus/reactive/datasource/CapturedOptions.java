@@ -0,0 +1,31 @@
+package io.quarkus.reactive.datasource;
+
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+/**
+ * Keeps the options computed from the configuration so that tests can check them without a database.
+ * <p>
+ * The capturing pool creators of the reactive clients call {@link #capture(SqlConnectOptions, PoolOptions)}.
+ */
+public final class CapturedOptions {
+
+    private static volatile SqlConnectOptions connectOptions;
+    private static volatile PoolOptions poolOptions;
+
+    private CapturedOptions() {
+    }
+
+    public static void capture(SqlConnectOptions connectOptions, PoolOptions poolOptions) {
+        CapturedOptions.connectOptions = connectOptions;
+        CapturedOptions.poolOptions = poolOptions;
+    }
+
+    public static SqlConnectOptions connectOptions() {
+        return connectOptions;
+    }
+
+    public static PoolOptions poolOptions() {
+        return poolOptions;
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.reactive.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.sqlclient.PoolOptions;
+
+public abstract class MaxWaitQueueSizeConfigTestBase {
+
+    /**
+     * @param poolCreator a pool creator that calls {@link CapturedOptions#capture}
+     * @param dbKind
+     * @param url
+     * @return the unit test that configures the wait queue size of the default datasource
+     */
+    protected static QuarkusUnitTest unitTest(Class<?> poolCreator, String dbKind, String url) {
+        return new QuarkusUnitTest()
+                .withApplicationRoot((jar) -> jar
+                        .addClass(poolCreator))
+                .overrideConfigKey("quarkus.devservices.enabled", "false")
+                .overrideConfigKey("quarkus.datasource.db-kind", dbKind)
+                .overrideConfigKey("quarkus.datasource.reactive.url", url)
+                .overrideConfigKey("quarkus.datasource.reactive.max-wait-queue-size", "42");
+    }
+
+    @Test
+    public void testMaxWaitQueueSize() {
+        // The pool is created on startup
+        PoolOptions options = CapturedOptions.poolOptions();
+        assertNotNull(options);
+        assertEquals(42, options.getMaxWaitQueueSize());
+    }
+}
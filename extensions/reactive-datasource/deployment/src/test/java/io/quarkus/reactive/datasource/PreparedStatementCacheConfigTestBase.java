@@ -0,0 +1,41 @@
+package io.quarkus.reactive.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+public abstract class PreparedStatementCacheConfigTestBase {
+
+    /**
+     * @param poolCreator a pool creator that calls {@link CapturedOptions#capture}
+     * @param dbKind
+     * @param url
+     * @return the unit test that configures the prepared statement cache of the default datasource
+     */
+    protected static QuarkusUnitTest unitTest(Class<?> poolCreator, String dbKind, String url) {
+        return new QuarkusUnitTest()
+                .withApplicationRoot((jar) -> jar
+                        .addClass(poolCreator))
+                .overrideConfigKey("quarkus.devservices.enabled", "false")
+                .overrideConfigKey("quarkus.datasource.db-kind", dbKind)
+                .overrideConfigKey("quarkus.datasource.reactive.url", url)
+                .overrideConfigKey("quarkus.datasource.reactive.cache-prepared-statements", "true")
+                .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-max-size", "512")
+                .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-sql-limit", "4096");
+    }
+
+    @Test
+    public void testPreparedStatementCacheOptions() {
+        // The pool is created on startup
+        SqlConnectOptions options = CapturedOptions.connectOptions();
+        assertNotNull(options);
+        assertTrue(options.getCachePreparedStatements());
+        assertEquals(512, options.getPreparedStatementCacheMaxSize());
+        assertEquals(4096, options.getPreparedStatementCacheSqlLimit());
+    }
+}
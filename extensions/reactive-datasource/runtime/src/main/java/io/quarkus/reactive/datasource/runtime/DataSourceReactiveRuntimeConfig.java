@@ -26,6 +26,22 @@ public interface DataSourceReactiveRuntimeConfig {
     @WithDefault("false")
     boolean cachePreparedStatements();
 
+    /**
+     * The maximum number of prepared statements cached per connection, when {@code cache-prepared-statements} is enabled.
+     * <p>
+     * Applications issuing the same statements concurrently from many requests should make sure all their frequent
+     * statements fit, so that they are prepared once per connection and can be pipelined.
+     */
+    @ConfigDocDefault("256")
+    OptionalInt preparedStatementCacheMaxSize();
+
+    /**
+     * The maximum length of the SQL string of a prepared statement for it to be cached, when
+     * {@code cache-prepared-statements} is enabled.
+     */
+    @ConfigDocDefault("2048")
+    OptionalInt preparedStatementCacheSqlLimit();
+
     /**
      * The datasource URLs.
      * <p>
@@ -52,6 +68,15 @@ public interface DataSourceReactiveRuntimeConfig {
      */
     OptionalInt eventLoopSize();
 
+    /**
+     * The maximum number of requests waiting for a connection when all the connections of the pool are in use.
+     * <p>
+     * When the wait queue is full, acquiring a connection fails immediately instead of queuing, which keeps latencies
+     * bounded under overload instead of piling up requests behind the pool.
+     */
+    @ConfigDocDefault("unbounded")
+    OptionalInt maxWaitQueueSize();
+
     /**
      * Whether all server certificates should be trusted.
      */
@@ -0,0 +1,18 @@
+package io.quarkus.reactive.db2.client;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.reactive.datasource.CapturedOptions;
+import io.vertx.db2client.DB2ConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+@Singleton
+public class CapturingDB2PoolCreator implements DB2PoolCreator {
+
+    @Override
+    public Pool create(Input input) {
+        DB2ConnectOptions options = input.db2ConnectOptions();
+        CapturedOptions.capture(options, input.poolOptions());
+        return Pool.pool(input.vertx(), options, input.poolOptions());
+    }
+}
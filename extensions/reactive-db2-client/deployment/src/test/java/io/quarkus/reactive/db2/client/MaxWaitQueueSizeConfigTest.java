@@ -0,0 +1,13 @@
+package io.quarkus.reactive.db2.client;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.MaxWaitQueueSizeConfigTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaxWaitQueueSizeConfigTest extends MaxWaitQueueSizeConfigTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = unitTest(CapturingDB2PoolCreator.class, "db2",
+            "vertx-reactive:db2://localhost:50005/hreact");
+}
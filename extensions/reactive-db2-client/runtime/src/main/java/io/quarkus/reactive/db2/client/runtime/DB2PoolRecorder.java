@@ -150,6 +150,10 @@ private PoolOptions toPoolOptions(Integer eventLoopCount, DataSourceReactiveRunt
 
         poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize());
 
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize().isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize().getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.idleTimeout().isPresent()) {
             var idleTimeout = unitised(dataSourceReactiveRuntimeConfig.idleTimeout().get());
             poolOptions.setIdleTimeout(idleTimeout.value).setIdleTimeoutUnit(idleTimeout.unit);
@@ -222,6 +226,10 @@ private DB2ConnectOptions toConnectOptions(String dataSourceName, DataSourceRunt
         }
 
         connectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements());
+        dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                .ifPresent(connectOptions::setPreparedStatementCacheMaxSize);
+        dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                .ifPresent(connectOptions::setPreparedStatementCacheSqlLimit);
 
         connectOptions.setSsl(dataSourceReactiveDB2Config.ssl());
 
@@ -0,0 +1,18 @@
+package io.quarkus.reactive.mssql.client;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.reactive.datasource.CapturedOptions;
+import io.vertx.mssqlclient.MSSQLConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+@Singleton
+public class CapturingMSSQLPoolCreator implements MSSQLPoolCreator {
+
+    @Override
+    public Pool create(Input input) {
+        MSSQLConnectOptions options = input.msSQLConnectOptions();
+        CapturedOptions.capture(options, input.poolOptions());
+        return Pool.pool(input.vertx(), options, input.poolOptions());
+    }
+}
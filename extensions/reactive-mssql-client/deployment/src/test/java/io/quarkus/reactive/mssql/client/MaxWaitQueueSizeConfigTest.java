@@ -0,0 +1,13 @@
+package io.quarkus.reactive.mssql.client;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.MaxWaitQueueSizeConfigTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaxWaitQueueSizeConfigTest extends MaxWaitQueueSizeConfigTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = unitTest(CapturingMSSQLPoolCreator.class, "mssql",
+            "vertx-reactive:sqlserver://localhost:1435");
+}
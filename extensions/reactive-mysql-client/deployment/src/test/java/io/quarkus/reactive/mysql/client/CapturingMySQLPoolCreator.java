@@ -0,0 +1,18 @@
+package io.quarkus.reactive.mysql.client;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.reactive.datasource.CapturedOptions;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+@Singleton
+public class CapturingMySQLPoolCreator implements MySQLPoolCreator {
+
+    @Override
+    public Pool create(Input input) {
+        MySQLConnectOptions options = input.mySQLConnectOptionsList().get(0);
+        CapturedOptions.capture(options, input.poolOptions());
+        return Pool.pool(input.vertx(), options, input.poolOptions());
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.reactive.mysql.client;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.MaxWaitQueueSizeConfigTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaxWaitQueueSizeConfigTest extends MaxWaitQueueSizeConfigTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = unitTest(CapturingMySQLPoolCreator.class, "mysql",
+            "vertx-reactive:mysql://localhost:3308/hibernate_orm_test");
+}
@@ -0,0 +1,13 @@
+package io.quarkus.reactive.mysql.client;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.PreparedStatementCacheConfigTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PreparedStatementCacheConfigTest extends PreparedStatementCacheConfigTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = unitTest(CapturingMySQLPoolCreator.class, "mysql",
+            "vertx-reactive:mysql://localhost:3308/hibernate_orm_test");
+}
@@ -154,6 +154,10 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
 
         poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize());
 
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize().isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize().getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.idleTimeout().isPresent()) {
             var idleTimeout = unitised(dataSourceReactiveRuntimeConfig.idleTimeout().get());
             poolOptions.setIdleTimeout(idleTimeout.value).setIdleTimeoutUnit(idleTimeout.unit);
@@ -225,6 +229,10 @@ private List<MySQLConnectOptions> toMySQLConnectOptions(String dataSourceName,
             }
 
             mysqlConnectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements());
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                    .ifPresent(mysqlConnectOptions::setPreparedStatementCacheMaxSize);
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                    .ifPresent(mysqlConnectOptions::setPreparedStatementCacheSqlLimit);
 
             dataSourceReactiveMySQLConfig.charset().ifPresent(mysqlConnectOptions::setCharset);
             dataSourceReactiveMySQLConfig.collation().ifPresent(mysqlConnectOptions::setCollation);
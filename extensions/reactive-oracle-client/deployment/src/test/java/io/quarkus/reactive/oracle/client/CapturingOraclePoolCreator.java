@@ -0,0 +1,18 @@
+package io.quarkus.reactive.oracle.client;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.reactive.datasource.CapturedOptions;
+import io.vertx.oracleclient.OracleConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+@Singleton
+public class CapturingOraclePoolCreator implements OraclePoolCreator {
+
+    @Override
+    public Pool create(Input input) {
+        OracleConnectOptions options = input.oracleConnectOptions();
+        CapturedOptions.capture(options, input.poolOptions());
+        return Pool.pool(input.vertx(), options, input.poolOptions());
+    }
+}
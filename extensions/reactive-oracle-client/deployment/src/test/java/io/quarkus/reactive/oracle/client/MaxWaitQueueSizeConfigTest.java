@@ -0,0 +1,13 @@
+package io.quarkus.reactive.oracle.client;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.MaxWaitQueueSizeConfigTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaxWaitQueueSizeConfigTest extends MaxWaitQueueSizeConfigTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = unitTest(CapturingOraclePoolCreator.class, "oracle",
+            "vertx-reactive:oracle:thin:@localhost:1521/FREEPDB1");
+}
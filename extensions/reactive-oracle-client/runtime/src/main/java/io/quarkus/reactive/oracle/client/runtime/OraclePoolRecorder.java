@@ -146,6 +146,10 @@ private PoolOptions toPoolOptions(Integer eventLoopCount, DataSourceReactiveRunt
 
         poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize());
 
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize().isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize().getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.idleTimeout().isPresent()) {
             var idleTimeout = unitised(dataSourceReactiveRuntimeConfig.idleTimeout().get());
             poolOptions.setIdleTimeout(idleTimeout.value).setIdleTimeoutUnit(idleTimeout.unit);
@@ -0,0 +1,18 @@
+package io.quarkus.reactive.pg.client;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.reactive.datasource.CapturedOptions;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+@Singleton
+public class CapturingPgPoolCreator implements PgPoolCreator {
+
+    @Override
+    public Pool create(Input input) {
+        PgConnectOptions options = input.pgConnectOptionsList().get(0);
+        CapturedOptions.capture(options, input.poolOptions());
+        return Pool.pool(input.vertx(), options, input.poolOptions());
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.reactive.pg.client;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.reactive.datasource.PreparedStatementCacheConfigTestBase;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PreparedStatementCacheConfigTest extends PreparedStatementCacheConfigTestBase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = unitTest(CapturingPgPoolCreator.class, "postgresql",
+            "vertx-reactive:postgresql://localhost:5431/hibernate_orm_test");
+}
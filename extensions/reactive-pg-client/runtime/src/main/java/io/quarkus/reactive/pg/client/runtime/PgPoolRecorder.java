@@ -150,6 +150,10 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
 
         poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize());
 
+        if (dataSourceReactiveRuntimeConfig.maxWaitQueueSize().isPresent()) {
+            poolOptions.setMaxWaitQueueSize(dataSourceReactiveRuntimeConfig.maxWaitQueueSize().getAsInt());
+        }
+
         if (dataSourceReactiveRuntimeConfig.idleTimeout().isPresent()) {
             var idleTimeout = unitised(dataSourceReactiveRuntimeConfig.idleTimeout().get());
             poolOptions.setIdleTimeout(idleTimeout.value).setIdleTimeoutUnit(idleTimeout.unit);
@@ -216,6 +220,10 @@ private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSou
             }
 
             pgConnectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements());
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                    .ifPresent(pgConnectOptions::setPreparedStatementCacheMaxSize);
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                    .ifPresent(pgConnectOptions::setPreparedStatementCacheSqlLimit);
 
             if (dataSourceReactivePostgreSQLConfig.pipeliningLimit().isPresent()) {
                 pgConnectOptions.setPipeliningLimit(dataSourceReactivePostgreSQLConfig.pipeliningLimit().getAsInt());
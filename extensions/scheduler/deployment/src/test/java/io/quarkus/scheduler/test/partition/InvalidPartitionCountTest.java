@@ -0,0 +1,34 @@
+package io.quarkus.scheduler.test.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidPartitionCountTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .assertException(t -> {
+                assertThat(t).rootCause().isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("Invalid scheduler partition configuration [count=0, index=0]");
+            })
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.partition.count", "0");
+
+    @Test
+    public void test() {
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.test.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidPartitionIndexTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .assertException(t -> {
+                assertThat(t).rootCause().isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("Invalid scheduler partition configuration [count=2, index=2]");
+            })
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.partition.count", "2")
+            .overrideConfigKey("quarkus.scheduler.partition.index", "2");
+
+    @Test
+    public void test() {
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.quarkus.scheduler.test.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PartitionedJobsTest {
+
+    private static final int PARTITION_COUNT = 3;
+    private static final int PARTITION_INDEX = 1;
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.partition.count", String.valueOf(PARTITION_COUNT))
+            .overrideConfigKey("quarkus.scheduler.partition.index", String.valueOf(PARTITION_INDEX));
+
+    static final Set<String> EXECUTED = ConcurrentHashMap.newKeySet();
+    static final CountDownLatch LOCAL_JOB_LATCH = new CountDownLatch(1);
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testEveryJobHasExactlyOnePartition() {
+        Set<String> ids = IntStream.range(0, 30).mapToObj(i -> "job" + i).collect(Collectors.toSet());
+        for (String id : ids) {
+            int partition = SimpleScheduler.partitionOf(id, PARTITION_COUNT);
+            assertThat(partition).isBetween(0, PARTITION_COUNT - 1);
+            // the assignment is stable, so that all the instances agree on it
+            assertThat(SimpleScheduler.partitionOf(id, PARTITION_COUNT)).isEqualTo(partition);
+        }
+        // the jobs are spread over all the partitions
+        assertThat(ids.stream().map(id -> SimpleScheduler.partitionOf(id, PARTITION_COUNT)).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrder(0, 1, 2);
+        // a single partition runs everything
+        assertThat(ids).allMatch(id -> SimpleScheduler.partitionOf(id, 1) == 0);
+    }
+
+    @Test
+    public void testOnlyLocalScheduledMethodsAreScheduled() throws InterruptedException {
+        assertThat(SimpleScheduler.partitionOf("local-job", PARTITION_COUNT)).isEqualTo(PARTITION_INDEX);
+        assertThat(SimpleScheduler.partitionOf("remote-job", PARTITION_COUNT)).isNotEqualTo(PARTITION_INDEX);
+
+        assertThat(LOCAL_JOB_LATCH.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(EXECUTED).doesNotContain("remote-job");
+        // the jobs of other partitions are not reported, so they are never seen as overdue
+        assertThat(scheduler.getScheduledJob("local-job")).isNotNull();
+        assertThat(scheduler.getScheduledJob("remote-job")).isNull();
+        assertThat(scheduler.getScheduledJobs()).extracting(Trigger::getId).contains("local-job")
+                .doesNotContain("remote-job");
+    }
+
+    @Test
+    public void testProgrammaticJobsAreNotPartitioned() throws InterruptedException {
+        Set<String> ids = IntStream.range(0, 12).mapToObj(i -> "programmatic" + i).collect(Collectors.toSet());
+        // some of the jobs would belong to other partitions
+        assertThat(ids).anyMatch(id -> SimpleScheduler.partitionOf(id, PARTITION_COUNT) != PARTITION_INDEX);
+        CountDownLatch latch = new CountDownLatch(ids.size());
+        for (String id : ids) {
+            scheduler.newJob(id)
+                    .setInterval("1s")
+                    .setTask(ec -> {
+                        if (EXECUTED.add(ec.getTrigger().getId())) {
+                            latch.countDown();
+                        }
+                    })
+                    .schedule();
+        }
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(EXECUTED).containsAll(ids);
+    }
+
+    static class Jobs {
+
+        @Scheduled(identity = "local-job", every = "1s")
+        void local() {
+            EXECUTED.add("local-job");
+            LOCAL_JOB_LATCH.countDown();
+        }
+
+        @Scheduled(identity = "remote-job", every = "1s")
+        void remote() {
+            EXECUTED.add("remote-job");
+        }
+    }
+
+}
@@ -31,6 +31,33 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * Partitioning of the jobs across multiple application instances.
+     * <p>
+     * Note that this configuration is only taken into account by the simple scheduler implementation.
+     */
+    PartitionConfig partition();
+
+    interface PartitionConfig {
+
+        /**
+         * The total number of application instances that share the scheduled jobs. If set to a value greater than 1 then
+         * each {@link io.quarkus.scheduler.Scheduled} method of the simple scheduler is assigned to exactly one instance and
+         * is not scheduled on the other instances. Jobs scheduled programmatically are not partitioned, and the Quartz
+         * scheduler ignores this setting.
+         */
+        @WithDefault("1")
+        int count();
+
+        /**
+         * The zero-based index of this application instance. The value must be less than the value of
+         * {@code quarkus.scheduler.partition.count}.
+         */
+        @WithDefault("0")
+        int index();
+
+    }
+
     enum StartMode {
 
         /**
@@ -75,6 +75,8 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    private final int partitionCount;
+    private final int partitionIndex;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -90,6 +92,12 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.partitionCount = schedulerRuntimeConfig.partition().count();
+        this.partitionIndex = schedulerRuntimeConfig.partition().index();
+        if (partitionCount < 1 || partitionIndex < 0 || partitionIndex >= partitionCount) {
+            throw new IllegalStateException("Invalid scheduler partition configuration [count=" + partitionCount + ", index="
+                    + partitionIndex + "]: the count must be positive and the index must be in the range [0, count)");
+        }
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -150,6 +158,11 @@ public void run() {
                 Optional<SimpleTrigger> trigger = createTrigger(id, method.getMethodDescription(), scheduled,
                         defaultOverdueGracePeriod);
                 if (trigger.isPresent()) {
+                    if (!isLocalPartition(trigger.get().id)) {
+                        // the job is executed by another application instance
+                        LOG.debugf("Scheduled job %s is assigned to another partition", trigger.get().id);
+                        continue;
+                    }
                     JobInstrumenter instrumenter = null;
                     if (schedulerConfig.tracingEnabled() && jobInstrumenter.isResolvable()) {
                         instrumenter = jobInstrumenter.get();
@@ -227,6 +240,46 @@ void stop() {
         }
     }
 
+    /**
+     * Rendezvous hashing is used so that only the jobs of the affected partitions are moved if the number of partitions
+     * changes. Only the {@link Scheduled} methods are partitioned: a programmatic job is usually scheduled by a single
+     * application instance, so it always runs on the instance that scheduled it.
+     *
+     * @param id
+     * @return {@code true} if the job with the given id is assigned to this application instance
+     */
+    boolean isLocalPartition(String id) {
+        return partitionCount == 1 || partitionOf(id, partitionCount) == partitionIndex;
+    }
+
+    /**
+     * Selects the partition of a job by rendezvous hashing of its identity, so that every application instance
+     * computes the same assignment without any coordination.
+     *
+     * @param id the job identity
+     * @param partitionCount the total number of partitions
+     * @return the zero-based index of the partition that runs the job
+     */
+    public static int partitionOf(String id, int partitionCount) {
+        int selected = 0;
+        long maxWeight = Long.MIN_VALUE;
+        for (int i = 0; i < partitionCount; i++) {
+            long weight = mix(((long) id.hashCode() << 32) | i);
+            if (weight > maxWeight) {
+                maxWeight = weight;
+                selected = i;
+            }
+        }
+        return selected;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
     void checkTriggers() {
         if (!running) {
             LOG.trace("Skip all triggers - scheduler paused");
@@ -517,6 +570,9 @@ static class CronTrigger extends SimpleTrigger {
         private final ExecutionTime executionTime;
         private final Duration gracePeriod;
         private final ZoneId timeZone;
+        // The next execution computed from the last fire time; the cron expression does not need to be evaluated before
+        // this time is reached
+        private volatile Optional<ZonedDateTime> nextExecution;
 
         CronTrigger(String id, ZonedDateTime start, Cron cron, Duration gracePeriod, ZoneId timeZone, String description) {
             super(id, start, description);
@@ -530,7 +586,7 @@ static class CronTrigger extends SimpleTrigger {
 
         @Override
         public Instant getNextFireTime() {
-            return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
+            return nextExecution().map(ZonedDateTime::toInstant).orElse(null);
         }
 
         @Override
@@ -538,6 +594,11 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
             }
+            Optional<ZonedDateTime> next = nextExecution();
+            if (next.isEmpty() || now.isBefore(next.get())) {
+                // No execution is due yet - skip the relatively expensive evaluation of the cron expression
+                return null;
+            }
             now = zoned(now);
             Optional<ZonedDateTime> lastExecution = executionTime.lastExecution(now);
             if (lastExecution.isPresent()) {
@@ -545,12 +606,22 @@ ZonedDateTime evaluate(ZonedDateTime now) {
                 if (now.isAfter(lastTruncated) && lastFireTime.isBefore(lastTruncated)) {
                     LOG.tracef("%s fired, last=%s", this, lastTruncated);
                     lastFireTime = now;
+                    nextExecution = null;
                     return lastTruncated;
                 }
             }
             return null;
         }
 
+        private Optional<ZonedDateTime> nextExecution() {
+            Optional<ZonedDateTime> next = nextExecution;
+            if (next == null) {
+                next = executionTime.nextExecution(lastFireTime);
+                nextExecution = next;
+            }
+            return next;
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -558,7 +629,7 @@ public boolean isOverdue() {
                 return false;
             }
             now = zoned(now);
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(lastFireTime);
+            Optional<ZonedDateTime> nextFireTime = nextExecution();
             return nextFireTime.isEmpty() || nextFireTime.get().plus(gracePeriod).isBefore(now);
         }
 
@@ -0,0 +1,57 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.scheduler.common.runtime.CronParser;
+import io.quarkus.scheduler.runtime.SimpleScheduler.CronTrigger;
+
+public class CronTriggerTest {
+
+    static final ZonedDateTime START = ZonedDateTime.of(2026, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    public void testNextExecutionIsReused() {
+        CronTrigger trigger = everyTenSeconds();
+        assertNull(trigger.evaluate(START.minusSeconds(1)));
+        assertNull(trigger.evaluate(START.plusSeconds(5)));
+        assertEquals(START.plusSeconds(10).toInstant(), trigger.getNextFireTime());
+        assertNull(trigger.evaluate(START.plusSeconds(9)));
+        assertEquals(START.plusSeconds(10).toInstant(), trigger.getNextFireTime());
+    }
+
+    @Test
+    public void testNextExecutionIsAdvanced() {
+        CronTrigger trigger = everyTenSeconds();
+        assertEquals(START.plusSeconds(10), trigger.evaluate(START.plusSeconds(10).plusNanos(500_000_000)));
+        assertEquals(START.plusSeconds(20).toInstant(), trigger.getNextFireTime());
+        assertNull(trigger.evaluate(START.plusSeconds(15)));
+        assertEquals(START.plusSeconds(20), trigger.evaluate(START.plusSeconds(21)));
+        assertEquals(START.plusSeconds(30).toInstant(), trigger.getNextFireTime());
+    }
+
+    @Test
+    public void testNextExecutionIsResetAfterMissedFires() {
+        CronTrigger trigger = everyTenSeconds();
+        assertEquals(START.plusSeconds(10), trigger.evaluate(START.plusSeconds(11)));
+        // The fires at 20s, 30s and 40s are missed - only the last one is fired
+        assertEquals(START.plusSeconds(40), trigger.evaluate(START.plusSeconds(47)));
+        assertEquals(START.plusSeconds(50).toInstant(), trigger.getNextFireTime());
+        assertNull(trigger.evaluate(START.plusSeconds(48)));
+        assertEquals(START.plusSeconds(50), trigger.evaluate(START.plusSeconds(50).plusNanos(1)));
+    }
+
+    private CronTrigger everyTenSeconds() {
+        return new CronTrigger("cron", START, new CronParser(CronType.QUARTZ).parse("0/10 * * * * ?"), Duration.ofSeconds(1),
+                null, "test");
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import java.lang.reflect.Modifier;
 import java.util.UUID;
 
 import org.jboss.jandex.Type;
@@ -49,6 +50,11 @@ public static String generateDeserializer(BuildProducer<GeneratedClassBuildItem>
                 constructor.loadClassFromTCCL(type.name().toString()));
         constructor.returnValue(null);
         constructor.close();
+        // the generated class does not override the byte[] variants, so records can be parsed in place
+        MethodCreator deserializeInPlace = creator.getMethodCreator("deserializeInPlace", boolean.class);
+        deserializeInPlace.setModifiers(Modifier.PROTECTED);
+        deserializeInPlace.returnValue(deserializeInPlace.load(true));
+        deserializeInPlace.close();
         creator.close();
         return type.name().packagePrefix() + "." + out;
     }
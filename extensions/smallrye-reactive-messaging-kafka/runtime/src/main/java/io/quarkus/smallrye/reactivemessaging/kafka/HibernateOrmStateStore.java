@@ -1,6 +1,7 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -77,8 +78,7 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object id : ids) {
-                        CheckpointEntity entity = session.find(stateType, id);
+                    for (CheckpointEntity entity : session.findMultiple(stateType, Arrays.asList(ids))) {
                         if (entity != null) {
                             fetched.add(entity);
                         }
@@ -104,16 +104,24 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            CheckpointEntity[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+                    .toArray(CheckpointEntity[]::new);
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            List<CheckpointEntityId> ids = Arrays.stream(entities).map(CheckpointEntity::getId).toList();
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object entity : entities) {
+                    // load the current states with a single query so that merging does not select them one by one,
+                    // and send the resulting inserts and updates in a single JDBC batch
+                    session.setJdbcBatchSize(entities.length);
+                    session.findMultiple(stateType, ids);
+                    for (CheckpointEntity entity : entities) {
                         session.merge(entity);
                     }
                     session.flush();
@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -78,12 +79,19 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            CheckpointEntity[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
-            return sf.withTransaction(s -> s.mergeAll(entities));
+                    .toArray(CheckpointEntity[]::new);
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            Object[] ids = Arrays.stream(entities).map(CheckpointEntity::getId).toArray();
+            // load the current states with a single query so that merging does not select them one by one,
+            // and send the resulting inserts and updates in a single batch
+            return sf.withTransaction(s -> s.setBatchSize(entities.length).find(stateType, ids)
+                    .chain(() -> s.mergeAll((Object[]) entities)));
         }).runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext);
     }
 
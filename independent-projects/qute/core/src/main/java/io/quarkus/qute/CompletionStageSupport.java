@@ -30,4 +30,17 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     *
+     * @param result
+     * @return {@code true} if the result is a plain value, i.e. {@link #toCompletionStage(Object)} would wrap it in a new
+     *         {@link CompletedStage}
+     */
+    static boolean isValue(Object result) {
+        return !(result instanceof CompletableFuture)
+                && !(result instanceof CompletedStage)
+                && !(result instanceof AbstractUni)
+                && !(UNRESTRICTED && result instanceof CompletionStage);
+    }
 }
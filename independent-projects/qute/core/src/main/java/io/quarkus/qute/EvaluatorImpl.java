@@ -4,7 +4,6 @@
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -20,14 +19,14 @@ class EvaluatorImpl implements Evaluator {
 
     private static final Logger LOG = Logger.getLogger(EvaluatorImpl.class);
 
-    private final List<ValueResolver> resolvers;
+    private final ValueResolver[] resolvers;
     private final Map<String, NamespaceResolver[]> namespaceResolvers;
     private final boolean strictRendering;
     private final ErrorInitializer initializer;
 
     EvaluatorImpl(List<ValueResolver> valueResolvers, List<NamespaceResolver> namespaceResolvers, boolean strictRendering,
             ErrorInitializer errorInitializer) {
-        this.resolvers = valueResolvers;
+        this.resolvers = valueResolvers.toArray(new ValueResolver[0]);
         Map<String, NamespaceResolver[]> namespaceResolversMap = new HashMap<>();
         for (NamespaceResolver namespaceResolver : namespaceResolvers) {
             NamespaceResolver[] matching = namespaceResolversMap.get(namespaceResolver.getNamespace());
@@ -128,39 +127,37 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
                 : new TerminalEvalContextImpl(ref, resolutionContext, part);
         if (partIndex + 1 >= parts.size()) {
             // The last part - no need to compose
-            return resolve(evalContext, null, true, expression, true, partIndex);
+            return resolve(evalContext, 0, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
+            return resolve(evalContext, 0, true, expression, false, partIndex)
                     .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, int resolverIndex,
             boolean tryCachedResolver, final Expression expression, boolean isLastPart, int partIndex) {
 
         if (tryCachedResolver) {
-            // Try the cached resolver first
-            ValueResolver cached = evalContext.getCachedResolver();
-            if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
-                    if (Results.isNotFound(r)) {
-                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
-                    } else {
-                        return CompletionStageSupport.toCompletionStage(r);
+            // Try the cached resolvers first
+            // Usually there is only one resolver cached but a part may be evaluated against bases of different types,
+            // e.g. when iterating over a heterogeneous list
+            ValueResolver[] cached = evalContext.getCachedResolvers();
+            if (cached != null) {
+                for (ValueResolver cachedResolver : cached) {
+                    if (cachedResolver.appliesTo(evalContext)) {
+                        // If not found then try all resolvers
+                        return completeResolution(cachedResolver.resolve(evalContext), evalContext, null, 0, expression,
+                                isLastPart, partIndex);
                     }
-                });
+                }
             }
         }
 
-        if (resolvers == null) {
-            // Iterate the resolvers lazily
-            resolvers = this.resolvers.iterator();
-        }
-
         ValueResolver applicableResolver = null;
-        while (applicableResolver == null && resolvers.hasNext()) {
-            ValueResolver next = resolvers.next();
+        int nextIndex = resolverIndex;
+        while (applicableResolver == null && nextIndex < resolvers.length) {
+            ValueResolver next = resolvers[nextIndex++];
             if (next.appliesTo(evalContext)) {
                 applicableResolver = next;
             }
@@ -172,7 +169,7 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
                 return resolve(
                         new EvalContextImpl(parent.getData(), parent,
                                 evalContext.part),
-                        null, false, expression, isLastPart, partIndex);
+                        0, false, expression, isLastPart, partIndex);
             }
             LOG.tracef("Unable to resolve %s", evalContext);
             Object notFound;
@@ -206,18 +203,49 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
-        final Iterator<ValueResolver> remainingResolvers = resolvers;
-        final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
-            } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
-                return CompletionStageSupport.toCompletionStage(r);
+        // If not found then try the next resolver; otherwise cache the first resolver where a result is found
+        return completeResolution(applicableResolver.resolve(evalContext), evalContext, applicableResolver, nextIndex,
+                expression, isLastPart, partIndex);
+    }
+
+    /**
+     * If the result of a value resolver is already available then it's processed synchronously, i.e. without composing.
+     *
+     * @param result
+     * @param evalContext
+     * @param resolverToCache the resolver to cache if a result is found, may be {@code null}
+     * @param nextResolverIndex the index of the resolver to try next if no result is found
+     * @param expression
+     * @param isLastPart
+     * @param partIndex
+     * @return the resolved value
+     */
+    private CompletionStage<Object> completeResolution(CompletionStage<Object> result, EvalContextImpl evalContext,
+            ValueResolver resolverToCache, int nextResolverIndex, Expression expression, boolean isLastPart, int partIndex) {
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            try {
+                return completeResolution(completed.get(), completed, evalContext, resolverToCache, nextResolverIndex,
+                        expression, isLastPart, partIndex);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
             }
-        });
+        }
+        return result.thenCompose(r -> completeResolution(r, null, evalContext, resolverToCache, nextResolverIndex,
+                expression, isLastPart, partIndex));
+    }
+
+    private CompletionStage<Object> completeResolution(Object result, CompletedStage<Object> completed,
+            EvalContextImpl evalContext, ValueResolver resolverToCache, int nextResolverIndex, Expression expression,
+            boolean isLastPart, int partIndex) {
+        if (Results.isNotFound(result)) {
+            return resolve(evalContext, nextResolverIndex, false, expression, isLastPart, partIndex);
+        }
+        if (resolverToCache != null) {
+            evalContext.cacheResolver(resolverToCache.getCachedResolver(evalContext));
+        }
+        // Reuse the completed stage if possible
+        return completed != null && CompletionStageSupport.isValue(result) ? completed
+                : CompletionStageSupport.toCompletionStage(result);
     }
 
     private TemplateException propertyNotFound(Object result, Expression expression) {
@@ -397,13 +425,12 @@ public Object getAttribute(String key) {
             return resolutionContext.getAttribute(key);
         }
 
-        ValueResolver getCachedResolver() {
-            return part.cachedResolver;
+        ValueResolver[] getCachedResolvers() {
+            return part.cachedResolvers;
         }
 
-        void setCachedResolver(ValueResolver valueResolver) {
-            // Non-atomic write is ok here
-            part.cachedResolver = valueResolver;
+        void cacheResolver(ValueResolver valueResolver) {
+            part.cacheResolver(valueResolver);
         }
 
         boolean tryParent() {
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -230,15 +231,42 @@ private static String buildTypeInfo(String name, List<Expression> parameters, St
 
     static class PartImpl implements Part {
 
+        // Number of resolvers cached for a part; a part is rarely evaluated against more than a few base types
+        static final int MAX_CACHED_RESOLVERS = 4;
+
         protected final String name;
         protected final String typeInfo;
-        protected volatile ValueResolver cachedResolver;
+        protected volatile ValueResolver[] cachedResolvers;
 
         PartImpl(String name, String typeInfo) {
             this.name = name;
             this.typeInfo = typeInfo;
         }
 
+        void cacheResolver(ValueResolver resolver) {
+            // Non-atomic update is ok here - in the worst case a resolver is not cached or is cached twice
+            ValueResolver[] cached = cachedResolvers;
+            if (cached == null) {
+                cachedResolvers = new ValueResolver[] { resolver };
+                return;
+            }
+            for (ValueResolver r : cached) {
+                if (r == resolver) {
+                    return;
+                }
+            }
+            ValueResolver[] newCached;
+            if (cached.length < MAX_CACHED_RESOLVERS) {
+                newCached = Arrays.copyOf(cached, cached.length + 1);
+            } else {
+                // The cache is full - discard the oldest resolver
+                newCached = new ValueResolver[MAX_CACHED_RESOLVERS];
+                System.arraycopy(cached, 1, newCached, 0, MAX_CACHED_RESOLVERS - 1);
+            }
+            newCached[newCached.length - 1] = resolver;
+            cachedResolvers = newCached;
+        }
+
         public String getName() {
             return name;
         }
@@ -19,6 +19,8 @@ public class ExpressionNode implements TemplateNode {
     private final boolean traceLevel;
     private final boolean hasEngineResultMappers;
     private final boolean unrestrictedCompletionStages;
+    // The result of a literal expression never changes and can be reused
+    private final CompletedStage<ResultNode> literalResult;
 
     ExpressionNode(ExpressionImpl expression, Engine engine) {
         this.expression = expression;
@@ -26,14 +28,27 @@ public class ExpressionNode implements TemplateNode {
         this.traceLevel = LOG.isTraceEnabled();
         this.hasEngineResultMappers = !engine.getResultMappers().isEmpty();
         this.unrestrictedCompletionStages = CompletionStageSupport.UNRESTRICTED;
+        this.literalResult = initLiteralResult(expression);
     }
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
+        if (literalResult != null) {
+            return literalResult;
+        }
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // Synchronous fast path - the value is available, no need to compose
+            try {
+                return toResultNode(completed.get());
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     @Override
@@ -85,6 +100,17 @@ CompletionStage<ResultNode> toResultNode(Object result) {
         }
     }
 
+    private CompletedStage<ResultNode> initLiteralResult(ExpressionImpl expression) {
+        if (traceLevel || !expression.isLiteral()) {
+            return null;
+        }
+        Object literal = expression.getLiteral();
+        if (literal == null || literal instanceof CompletionStage) {
+            return null;
+        }
+        return CompletedStage.of(new SingleResultNode(literal, this));
+    }
+
     Engine getEngine() {
         return engine;
     }
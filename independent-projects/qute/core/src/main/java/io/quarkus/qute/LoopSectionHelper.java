@@ -6,11 +6,13 @@
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -107,14 +109,12 @@ private Iterator<?> extractIterator(Object it) {
             return IntStream.rangeClosed(1, integer).iterator();
         } else if (it instanceof Long longValue) {
             return LongStream.rangeClosed(1, longValue).iterator();
+        } else if (it instanceof Object[] array) {
+            // No need to copy the elements - the iterator is backed by the array and
+            // a modification made during rendering is visible in the remaining iterations
+            return Arrays.asList(array).iterator();
         } else if (it.getClass().isArray()) {
-            int length = Array.getLength(it);
-            List<Object> elements = new ArrayList<>(length);
-            for (int i = 0; i < length; i++) {
-                // The val is automatically wrapped for primitive types
-                elements.add(Array.get(it, i));
-            }
-            return elements.iterator();
+            return new PrimitiveArrayIterator(it);
         } else if (it instanceof Iterable<?> iterable) {
             return iterable.iterator();
         } else if (it instanceof Iterator<?> iterator) {
@@ -148,6 +148,38 @@ CompletionStage<ResultNode> nextElement(Object element, int index, boolean hasNe
         return context.execute(child);
     }
 
+    /**
+     * Iterates over the elements of a primitive array without copying; the values are automatically wrapped.
+     * <p>
+     * An element is read when the iteration reaches it, i.e. a modification made during rendering is visible in the remaining
+     * iterations.
+     */
+    static final class PrimitiveArrayIterator implements Iterator<Object> {
+
+        private final Object array;
+        private final int length;
+        private int idx;
+
+        PrimitiveArrayIterator(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < length;
+        }
+
+        @Override
+        public Object next() {
+            if (idx >= length) {
+                throw new NoSuchElementException();
+            }
+            return Array.get(array, idx++);
+        }
+
+    }
+
     public static class Factory implements SectionHelperFactory<LoopSectionHelper> {
 
         /**
@@ -175,31 +175,35 @@ public Origin getOrigin() {
 
     void optimizeNodes(Set<TemplateNode> nodesToRemove) {
         List<TemplateNode> effectiveNodes = new ArrayList<>();
-        boolean hasLineSeparator = false;
+        boolean hasAdjacentTextNodes = false;
         boolean nodeIgnored = false;
+        TemplateNode previous = null;
         for (TemplateNode node : nodes) {
             if (node instanceof SectionNode) {
                 effectiveNodes.add(node);
                 ((SectionNode) node).optimizeNodes(nodesToRemove);
+                previous = node;
             } else if (node == Parser.COMMENT_NODE || nodesToRemove.contains(node)) {
                 // Ignore comments and nodes for removal
                 nodeIgnored = true;
             } else {
                 effectiveNodes.add(node);
-                if (node instanceof LineSeparatorNode) {
-                    hasLineSeparator = true;
+                if (node instanceof TextNode && previous instanceof TextNode) {
+                    // E.g. a line separator, a CDATA section or a text separated by a comment
+                    hasAdjacentTextNodes = true;
                 }
+                previous = node;
             }
         }
 
-        if (!hasLineSeparator && !nodeIgnored) {
+        if (!hasAdjacentTextNodes && !nodeIgnored) {
             // No optimizations are possible
             return;
         }
 
-        if (hasLineSeparator) {
+        if (hasAdjacentTextNodes) {
             List<TemplateNode> finalNodes;
-            // Collapse adjacent text and line separator nodes
+            // Collapse adjacent text and line separator nodes so that a static region is rendered as a single string
             finalNodes = new ArrayList<>();
             List<TextNode> textGroup = null;
             for (TemplateNode node : effectiveNodes) {
@@ -131,6 +131,29 @@ public void testArray() {
         Engine engine = Engine.builder().addDefaults().build();
         assertEquals("1:2:3:",
                 engine.parse("{#for i in items}{i}:{/for}").data("items", new Integer[] { 1, 2, 3 }).render());
+        assertEquals("1:2:3:",
+                engine.parse("{#for i in items}{i}:{/for}").data("items", new int[] { 1, 2, 3 }).render());
+        assertEquals("a,b",
+                engine.parse("{#for c in chars}{c}{#if c_hasNext},{/if}{/for}").data("chars", new char[] { 'a', 'b' })
+                        .render());
+    }
+
+    @Test
+    public void testArrayModifiedDuringRendering() {
+        String[] strings = { "a", "b", "c" };
+        int[] ints = { 1, 2, 3 };
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToName("modify").resolveSync(ec -> {
+                    strings[2] = "z";
+                    ints[2] = 9;
+                    return "";
+                }).build())
+                .build();
+        // Arrays are not copied - the modification is visible in the remaining iterations
+        assertEquals("a:b:z:",
+                engine.parse("{#for i in items}{i}{i_index.modify}:{/for}").data("items", strings).render());
+        assertEquals("1:2:9:",
+                engine.parse("{#for i in items}{i}{i_index.modify}:{/for}").data("items", ints).render());
     }
 
     @Test
@@ -290,6 +290,25 @@ public void testTextNodeCollapse() {
         assertEquals("next", rootNodes.get(2).asText().getValue());
     }
 
+    @Test
+    public void testTextNodeCollapseWithoutLineSeparator() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Hello {|{raw}|} world{! comment !}!{foo}next");
+        List<TemplateNode> rootNodes = template.getNodes();
+        assertEquals(3, rootNodes.size());
+        assertEquals("Hello {raw} world!", rootNodes.get(0).asText().getValue());
+        assertTrue(rootNodes.get(1).isExpression());
+        assertEquals("next", rootNodes.get(2).asText().getValue());
+        assertEquals("Hello {raw} world!1next", template.data("foo", 1).render());
+    }
+
+    @Test
+    public void testLiteralExpressionNode() {
+        Template template = Engine.builder().addDefaults().build().parse("{'foo'}:{10}:{null}:{true}");
+        assertEquals("foo:10::true", template.render());
+        assertEquals("foo:10::true", template.render());
+    }
+
     @Test
     public void testGetExpressions() {
         Template template = Engine.builder().addDefaults().build()
@@ -5,6 +5,7 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.IntStream;
@@ -64,17 +65,46 @@ public void testCachedResolver() {
         PartImpl fooNamePart = (PartImpl) fooName.getParts().get(1);
         PartImpl fooNameRepeat5Part = (PartImpl) fooNameRepeat5.getParts().get(2);
         PartImpl fooNameRepeatNPart = (PartImpl) fooNameRepeatN.getParts().get(2);
-        assertNull(fooNamePart.cachedResolver);
-        assertNull(fooNameRepeat5Part.cachedResolver);
-        assertNull(fooNameRepeatNPart.cachedResolver);
+        assertNull(fooNamePart.cachedResolvers);
+        assertNull(fooNameRepeat5Part.cachedResolvers);
+        assertNull(fooNameRepeatNPart.cachedResolvers);
         assertEquals("box::boxboxboxboxbox::box", template.data("foo", new Foo("box"), "n", 1).render());
         assertEquals("box::boxboxboxboxbox::boxbox", template.data("foo", new Foo("box"), "n", 2).render());
-        assertNotNull(fooNamePart.cachedResolver);
-        assertNotNull(fooNameRepeat5Part.cachedResolver);
-        assertNotNull(fooNameRepeatNPart.cachedResolver);
-        assertTrue(fooNamePart.cachedResolver instanceof ReflectionValueResolver.AccessorResolver);
-        assertTrue(fooNameRepeat5Part.cachedResolver instanceof ReflectionValueResolver.AccessorResolver);
-        assertTrue(fooNameRepeatNPart.cachedResolver instanceof ReflectionValueResolver.CandidateResolver);
+        assertNotNull(fooNamePart.cachedResolvers);
+        assertNotNull(fooNameRepeat5Part.cachedResolvers);
+        assertNotNull(fooNameRepeatNPart.cachedResolvers);
+        assertTrue(fooNamePart.cachedResolvers[0] instanceof ReflectionValueResolver.AccessorResolver);
+        assertTrue(fooNameRepeat5Part.cachedResolvers[0] instanceof ReflectionValueResolver.AccessorResolver);
+        assertTrue(fooNameRepeatNPart.cachedResolvers[0] instanceof ReflectionValueResolver.CandidateResolver);
+    }
+
+    @Test
+    public void testCachedResolverPolymorphic() {
+        Template template = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build()
+                .parse("{#each items}{it.name}:{/each}");
+        Expression itName = template.findExpression(e -> e.toOriginalString().equals("it.name"));
+        PartImpl namePart = (PartImpl) itName.getParts().get(1);
+        assertNull(namePart.cachedResolvers);
+        List<Object> items = List.of(new Foo("box"), new Bar("bar"), new Foo("fox"));
+        assertEquals("box:bar:fox:", template.data("items", items).render());
+        assertEquals("box:bar:fox:", template.data("items", items).render());
+        // One resolver per base class
+        assertNotNull(namePart.cachedResolvers);
+        assertEquals(2, namePart.cachedResolvers.length);
+    }
+
+    public static class Bar {
+
+        private final String name;
+
+        public Bar(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
     }
 
     public static class Foo {
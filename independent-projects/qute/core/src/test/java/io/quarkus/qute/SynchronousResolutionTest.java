@@ -0,0 +1,96 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+public class SynchronousResolutionTest {
+
+    @Test
+    public void testExpressionNodeExceptionIsNotThrown() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{item}");
+        ExpressionNode node = template.findNodes(TemplateNode::isExpression).iterator().next().asExpression();
+        // The value of the completed stage is a nested completed stage
+        ResolutionContext context = new ResolutionContextImpl(
+                Map.of("item", CompletedStage.of(CompletedStage.of(CompletedStage.of("alpha")))), engine.getEvaluator(),
+                null, template.instance());
+        CompletionStage<ResultNode> result = assertDoesNotThrow(() -> node.resolve(context));
+        assertTrue(result.toCompletableFuture().isDone());
+    }
+
+    @Test
+    public void testEvaluatorExceptionIsNotThrown() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("name").priority(10)
+                        .resolveSync(Results.NotFound::from).build())
+                .addValueResolver(ValueResolver.builder().priority(5).appliesTo(ec -> {
+                    if (ec.getBase() instanceof Item) {
+                        throw new IllegalStateException("Foo!");
+                    }
+                    return false;
+                }).resolveWith("bravo").build())
+                .build();
+        Template template = engine.parse("{item.name}");
+        ResolutionContext context = new ResolutionContextImpl(Map.of("item", new Item("alpha")), engine.getEvaluator(),
+                null, template.instance());
+        CompletionStage<Object> result = assertDoesNotThrow(
+                () -> engine.getEvaluator().evaluate(ExpressionImpl.from("item.name"), context));
+        assertTrue(result.toCompletableFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    public void testCachedResolverNotFound() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("name").priority(10)
+                        .resolveSync(ec -> {
+                            Item item = (Item) ec.getBase();
+                            return item.name != null ? item.name : Results.NotFound.from(ec);
+                        }).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("name").priority(5)
+                        .resolveWith("fallback").build())
+                .build();
+        // The first resolver is cached for the first item and returns "not found" for the second one
+        assertEquals("alpha:fallback:charlie:",
+                engine.parse("{#for item in items}{item.name}:{/for}")
+                        .data("items", List.of(new Item("alpha"), new Item(null), new Item("charlie"))).render());
+    }
+
+    @Test
+    public void testMixedSyncAndAsyncParts() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("next")
+                        .resolveSync(ec -> ((Item) ec.getBase()).next()).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("nextAsync")
+                        .resolveAsync(ec -> CompletableFuture.supplyAsync(() -> ((Item) ec.getBase()).next())).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("name")
+                        .resolveSync(ec -> ((Item) ec.getBase()).name).build())
+                .build();
+        Template template = engine.parse("{item.next.nextAsync.next.name}::{item.nextAsync.next.nextAsync.name}");
+        assertEquals("alpha.next.next.next::alpha.next.next.next", template.data("item", new Item("alpha")).render());
+        // Render again - cached resolvers are used
+        assertEquals("bravo.next.next.next::bravo.next.next.next", template.data("item", new Item("bravo")).render());
+    }
+
+    static class Item {
+
+        final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+
+        Item next() {
+            return new Item(name + ".next");
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.quarkus.it.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.apache.kafka.common.TopicPartition;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.it.kafka.people.PeopleState;
+import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.core.Vertx;
+
+@QuarkusTest
+public class HibernateOrmStateStoreTest {
+
+    static final String TOPIC = "state-store-orm";
+
+    @Inject
+    @PersistenceUnit("people")
+    SessionFactory sf;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testSeveralPartitions() {
+        CheckpointStateStore store = new HibernateOrmStateStore("state-store-orm-group", sf, PeopleState.class);
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        TopicPartition p2 = new TopicPartition(TOPIC, 2);
+        TopicPartition p3 = new TopicPartition(TOPIC, 3);
+
+        // new states of several partitions are inserted together
+        Map<TopicPartition, ProcessingState<?>> state = new HashMap<>();
+        state.put(p0, new ProcessingState<>(people("alice"), 1));
+        state.put(p1, new ProcessingState<>(people("bob"), 2));
+        state.put(p2, new ProcessingState<>(people("tom"), 3));
+        onContext(() -> store.persistProcessingState(state));
+
+        // partitions without a state are left out of the fetched states
+        Map<TopicPartition, ProcessingState<?>> fetched = onContext(
+                () -> store.fetchProcessingState(List.of(p0, p1, p2, p3)));
+        assertEquals(3, fetched.size());
+        assertFalse(fetched.containsKey(p3));
+        assertState(fetched, p0, "alice", 1);
+        assertState(fetched, p1, "bob", 2);
+        assertState(fetched, p2, "tom", 3);
+
+        // existing states are updated and new ones inserted in the same checkpoint, empty states are skipped
+        Map<TopicPartition, ProcessingState<?>> update = new HashMap<>();
+        PeopleState p0State = (PeopleState) fetched.get(p0).getState();
+        p0State.setNames("alice;jerry");
+        update.put(p0, new ProcessingState<>(p0State, 10));
+        update.put(p1, new ProcessingState<>(null, 0));
+        update.put(p3, new ProcessingState<>(people("anna"), 4));
+        onContext(() -> store.persistProcessingState(update));
+
+        fetched = onContext(() -> store.fetchProcessingState(List.of(p0, p1, p2, p3)));
+        assertEquals(4, fetched.size());
+        assertState(fetched, p0, "alice;jerry", 10);
+        assertState(fetched, p1, "bob", 2);
+        assertState(fetched, p2, "tom", 3);
+        assertState(fetched, p3, "anna", 4);
+
+        // a checkpoint with only empty states does not touch the store
+        onContext(() -> store.persistProcessingState(Map.of(p2, new ProcessingState<>(null, 0))));
+        assertState(onContext(() -> store.fetchProcessingState(List.of(p2))), p2, "tom", 3);
+    }
+
+    private static PeopleState people(String names) {
+        PeopleState state = new PeopleState();
+        state.setNames(names);
+        return state;
+    }
+
+    private static void assertState(Map<TopicPartition, ProcessingState<?>> fetched, TopicPartition partition,
+            String names, long offset) {
+        assertTrue(fetched.containsKey(partition), () -> "No state for " + partition);
+        ProcessingState<?> processingState = fetched.get(partition);
+        assertEquals(offset, processingState.getOffset());
+        assertEquals(names, ((PeopleState) processingState.getState()).getNames());
+    }
+
+    private <T> T onContext(Supplier<Uni<T>> action) {
+        // the store runs its blocking work from the current Vert.x context
+        return Uni.createFrom().deferred(action)
+                .runSubscriptionOn(r -> vertx.getOrCreateContext().runOnContext(x -> r.run()))
+                .await().atMost(Duration.ofSeconds(30));
+    }
+}
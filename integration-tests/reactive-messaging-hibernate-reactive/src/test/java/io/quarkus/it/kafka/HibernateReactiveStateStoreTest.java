@@ -0,0 +1,99 @@
+package io.quarkus.it.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.apache.kafka.common.TopicPartition;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.vertx.RunOnVertxContext;
+import io.quarkus.test.vertx.UniAsserter;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+
+@QuarkusTest
+public class HibernateReactiveStateStoreTest {
+
+    static final String TOPIC = "state-store-reactive";
+
+    @Inject
+    Mutiny.SessionFactory sf;
+
+    @Test
+    @RunOnVertxContext
+    public void testSeveralPartitions(UniAsserter asserter) {
+        CheckpointStateStore store = new HibernateReactiveStateStore("state-store-reactive-group", sf,
+                PeopleState.class);
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        TopicPartition p2 = new TopicPartition(TOPIC, 2);
+        TopicPartition p3 = new TopicPartition(TOPIC, 3);
+
+        // new states of several partitions are inserted together
+        asserter.execute(() -> {
+            Map<TopicPartition, ProcessingState<?>> state = new HashMap<>();
+            state.put(p0, new ProcessingState<>(people("alice"), 1));
+            state.put(p1, new ProcessingState<>(people("bob"), 2));
+            state.put(p2, new ProcessingState<>(people("tom"), 3));
+            return store.persistProcessingState(state);
+        });
+
+        // partitions without a state are left out of the fetched states
+        asserter.assertThat(() -> store.fetchProcessingState(List.of(p0, p1, p2, p3)), fetched -> {
+            assertEquals(3, fetched.size());
+            assertFalse(fetched.containsKey(p3));
+            assertState(fetched, p0, "alice", 1);
+            assertState(fetched, p1, "bob", 2);
+            assertState(fetched, p2, "tom", 3);
+            asserter.putData("p0", fetched.get(p0).getState());
+        });
+
+        // existing states are updated and new ones inserted in the same checkpoint, empty states are skipped
+        asserter.execute(() -> {
+            PeopleState p0State = (PeopleState) asserter.getData("p0");
+            p0State.setNames("alice;jerry");
+            Map<TopicPartition, ProcessingState<?>> update = new HashMap<>();
+            update.put(p0, new ProcessingState<>(p0State, 10));
+            update.put(p1, new ProcessingState<>(null, 0));
+            update.put(p3, new ProcessingState<>(people("anna"), 4));
+            return store.persistProcessingState(update);
+        });
+
+        asserter.assertThat(() -> store.fetchProcessingState(List.of(p0, p1, p2, p3)), fetched -> {
+            assertEquals(4, fetched.size());
+            assertState(fetched, p0, "alice;jerry", 10);
+            assertState(fetched, p1, "bob", 2);
+            assertState(fetched, p2, "tom", 3);
+            assertState(fetched, p3, "anna", 4);
+        });
+
+        // a checkpoint with only empty states does not touch the store
+        asserter.execute(() -> store.persistProcessingState(Map.of(p2, new ProcessingState<>(null, 0))));
+        asserter.assertThat(() -> store.fetchProcessingState(List.of(p2)),
+                fetched -> assertState(fetched, p2, "tom", 3));
+    }
+
+    private static PeopleState people(String names) {
+        PeopleState state = new PeopleState();
+        state.setNames(names);
+        return state;
+    }
+
+    private static void assertState(Map<TopicPartition, ProcessingState<?>> fetched, TopicPartition partition,
+            String names, long offset) {
+        assertTrue(fetched.containsKey(partition), () -> "No state for " + partition);
+        ProcessingState<?> processingState = fetched.get(partition);
+        assertEquals(offset, processingState.getOffset());
+        assertEquals(names, ((PeopleState) processingState.getState()).getNames());
+    }
+}